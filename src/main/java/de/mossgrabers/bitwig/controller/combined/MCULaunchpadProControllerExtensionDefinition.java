@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.controller.combined;
+
+import de.mossgrabers.bitwig.framework.BitwigSetupFactory;
+import de.mossgrabers.bitwig.framework.configuration.SettingsUI;
+import de.mossgrabers.bitwig.framework.daw.HostImpl;
+import de.mossgrabers.bitwig.framework.extension.AbstractCombinedControllerExtensionDefinition;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerDefinition;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerSetup;
+import de.mossgrabers.controller.mcu.MCUControllerDefinition;
+import de.mossgrabers.controller.mcu.MCUControllerSetup;
+import de.mossgrabers.framework.controller.IControllerSetup;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.UUID;
+
+
+/**
+ * Definition class for a Mackie MCU protocol device and a Novation Launchpad Pro which are hosted by
+ * one extension and therefore share the cursor track and the track banks.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MCULaunchpadProControllerExtensionDefinition extends AbstractCombinedControllerExtensionDefinition
+{
+    private static final UUID EXTENSION_ID = UUID.fromString ("2B6F8E1C-5A47-4D3E-9C81-0F6A3D5B7E24");
+
+
+    /**
+     * Constructor.
+     */
+    public MCULaunchpadProControllerExtensionDefinition ()
+    {
+        super (new MCUControllerDefinition (0), new LaunchpadControllerDefinition (false));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public UUID getId ()
+    {
+        return EXTENSION_ID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IControllerSetup [] getControllerSetups (final ControllerHost host)
+    {
+        return new IControllerSetup []
+        {
+            new MCUControllerSetup (new HostImpl (host), new BitwigSetupFactory (host, this.getPortOffset (0)), new SettingsUI (host.getPreferences (), "MCU - "), 1),
+            new LaunchpadControllerSetup (new HostImpl (host), new BitwigSetupFactory (host, this.getPortOffset (1)), new SettingsUI (host.getPreferences (), "Launchpad - "), true)
+        };
+    }
+}
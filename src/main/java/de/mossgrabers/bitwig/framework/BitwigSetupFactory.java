@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework;
 
 import de.mossgrabers.bitwig.framework.daw.ModelImpl;
+import de.mossgrabers.bitwig.framework.daw.SharedHostObjects;
 import de.mossgrabers.bitwig.framework.midi.MidiDeviceImpl;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.IValueChanger;
@@ -25,6 +26,7 @@ import com.bitwig.extension.controller.api.ControllerHost;
 public class BitwigSetupFactory implements ISetupFactory
 {
     private ControllerHost host;
+    private final int      portOffset;
 
 
     /**
@@ -33,8 +35,22 @@ public class BitwigSetupFactory implements ISetupFactory
      * @param host The DAW host
      */
     public BitwigSetupFactory (final ControllerHost host)
+    {
+        this (host, 0);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param portOffset The index of the first midi input and output port of the controller, if
+     *            several controllers are hosted by one extension
+     */
+    public BitwigSetupFactory (final ControllerHost host, final int portOffset)
     {
         this.host = host;
+        this.portOffset = portOffset;
     }
 
 
@@ -46,10 +62,18 @@ public class BitwigSetupFactory implements ISetupFactory
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void releaseModel (final IModel model)
+    {
+        SharedHostObjects.release (this.host);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMidiAccess createMidiAccess ()
     {
-        return new MidiDeviceImpl (this.host);
+        return new MidiDeviceImpl (this.host, this.portOffset);
     }
 }
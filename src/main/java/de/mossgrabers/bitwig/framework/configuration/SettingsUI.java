@@ -24,7 +24,8 @@ import com.bitwig.extension.controller.api.Preferences;
  */
 public class SettingsUI implements ISettingsUI
 {
-    private Preferences preferences;
+    private Preferences  preferences;
+    private final String categoryPrefix;
 
 
     /**
@@ -33,8 +34,22 @@ public class SettingsUI implements ISettingsUI
      * @param preferences The Bitwig preferences
      */
     public SettingsUI (final Preferences preferences)
+    {
+        this (preferences, "");
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param preferences The Bitwig preferences
+     * @param categoryPrefix A prefix for all categories, required if several controllers are hosted
+     *            by one extension since settings with the same label and category are identical
+     */
+    public SettingsUI (final Preferences preferences, final String categoryPrefix)
     {
         this.preferences = preferences;
+        this.categoryPrefix = categoryPrefix;
     }
 
 
@@ -42,7 +57,7 @@ public class SettingsUI implements ISettingsUI
     @Override
     public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
     {
-        return new EnumSettingImpl (this.preferences.getEnumSetting (label, category, options, initialValue));
+        return new EnumSettingImpl (this.preferences.getEnumSetting (label, this.categoryPrefix + category, options, initialValue));
     }
 
 
@@ -50,7 +65,7 @@ public class SettingsUI implements ISettingsUI
     @Override
     public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
     {
-        return new BooleanSettingImpl (this.preferences.getBooleanSetting (label, category, initialValue));
+        return new BooleanSettingImpl (this.preferences.getBooleanSetting (label, this.categoryPrefix + category, initialValue));
     }
 
 
@@ -58,7 +73,7 @@ public class SettingsUI implements ISettingsUI
     @Override
     public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
     {
-        return new StringSettingImpl (this.preferences.getStringSetting (label, category, numChars, initialText));
+        return new StringSettingImpl (this.preferences.getStringSetting (label, this.categoryPrefix + category, numChars, initialText));
     }
 
 
@@ -66,7 +81,7 @@ public class SettingsUI implements ISettingsUI
     @Override
     public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
     {
-        return new DoubleSettingImpl (this.preferences.getNumberSetting (label, category, minValue, maxValue, stepResolution, unit, initialValue));
+        return new DoubleSettingImpl (this.preferences.getNumberSetting (label, this.categoryPrefix + category, minValue, maxValue, stepResolution, unit, initialValue));
     }
 
 
@@ -75,7 +90,7 @@ public class SettingsUI implements ISettingsUI
     public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
 
     {
-        return new IntegerSettingImpl (this.preferences.getNumberSetting (label, category, minValue, maxValue, stepResolution, unit, initialValue), maxValue - minValue + 1);
+        return new IntegerSettingImpl (this.preferences.getNumberSetting (label, this.categoryPrefix + category, minValue, maxValue, stepResolution, unit, initialValue), maxValue - minValue + 1);
     }
 
 
@@ -83,7 +98,7 @@ public class SettingsUI implements ISettingsUI
     @Override
     public ISignalSetting getSignalSetting (final String label, final String category, final String action)
     {
-        return new SignalSettingImpl (this.preferences.getSignalSetting (label, category, action));
+        return new SignalSettingImpl (this.preferences.getSignalSetting (label, this.categoryPrefix + category, action));
     }
 
 
@@ -92,6 +107,6 @@ public class SettingsUI implements ISettingsUI
     public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
     {
         final com.bitwig.extension.api.Color color = com.bitwig.extension.api.Color.fromRGB (defaultColor.getRed (), defaultColor.getGreen (), defaultColor.getBlue ());
-        return new ColorSettingImpl (this.preferences.getColorSetting (label, category, color));
+        return new ColorSettingImpl (this.preferences.getColorSetting (label, this.categoryPrefix + category, color));
     }
 }
@@ -35,6 +35,23 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
      * @param pageSize The number of elements in a page of the bank
      */
     public AbstractBankImpl (final IHost host, final IValueChanger valueChanger, final B bank, final int pageSize)
+    {
+        this (host, valueChanger, bank, pageSize, true);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param bank The bank to encapsulate
+     * @param pageSize The number of elements in a page of the bank
+     * @param selectByCursorIndex If true, the selection state of the items is set from the cursor
+     *            index of the bank. Set to false if the items observe their selection state
+     *            themselves
+     */
+    protected AbstractBankImpl (final IHost host, final IValueChanger valueChanger, final B bank, final int pageSize, final boolean selectByCursorIndex)
     {
         super (host, pageSize);
 
@@ -44,15 +61,14 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
         if (this.bank == null)
             return;
 
-        this.bank.cursorIndex ().addValueObserver (index -> {
-            // Note: Currently only works for track banks
-            for (int i = 0; i < this.getPageSize (); i++)
-            {
-                final boolean isSelected = index == i;
-                if (this.items.get (i).isSelected () != isSelected)
-                    this.handleBankSelection (i, isSelected);
-            }
-        });
+        if (selectByCursorIndex)
+        {
+            this.bank.cursorIndex ().addValueObserver (index -> {
+                // Note: Currently only works for track banks
+                for (int i = 0; i < this.getPageSize (); i++)
+                    this.items.get (i).setSelected (index == i);
+            });
+        }
 
         this.bank.scrollPosition ().markInterested ();
         this.bank.canScrollBackwards ().markInterested ();
@@ -207,17 +223,4 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
         this.scrollPageForwards ();
         this.host.scheduleTask ( () -> this.getItem (0).select (), 75);
     }
-
-
-    /**
-     * Handles track changes. Notifies all track change observers.
-     *
-     * @param index The index of the newly de-/selected track
-     * @param isSelected True if selected
-     */
-    private void handleBankSelection (final int index, final boolean isSelected)
-    {
-        this.getItem (index).setSelected (isSelected);
-        this.notifySelectionObservers (index, isSelected);
-    }
 }
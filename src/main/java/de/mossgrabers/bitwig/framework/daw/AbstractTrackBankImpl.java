@@ -25,7 +25,8 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBank, ITrack> implements ITrackBank
 {
-    protected final CursorTrack cursorTrack;
+    protected final CursorTrack     cursorTrack;
+    private final SharedHostObjects sharedObjects;
 
 
     /**
@@ -38,12 +39,17 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
      * @param numTracks The number of tracks of a bank page
      * @param numScenes The number of scenes of a bank page
      * @param numSends The number of sends of a bank page
+     * @param sharedObjects The objects shared with other models if the bank is one of them,
+     *            otherwise null
      */
-    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank bank, final int numTracks, final int numScenes, final int numSends)
+    public AbstractTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank bank, final int numTracks, final int numScenes, final int numSends, final SharedHostObjects sharedObjects)
     {
         super (host, valueChanger, bank, numTracks, numScenes, numSends);
 
         this.cursorTrack = cursorTrack;
+        this.sharedObjects = sharedObjects;
+        if (this.sharedObjects != null)
+            this.sharedObjects.addSubscriber (bank, this);
 
         this.initItems ();
 
@@ -55,6 +61,9 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
     @Override
     public void enableObservers (final boolean enable)
     {
+        if (this.sharedObjects != null && !this.sharedObjects.updateSubscription (this.bank, this, enable))
+            return;
+
         super.enableObservers (enable);
 
         this.sceneBank.enableObservers (enable);
@@ -65,6 +74,9 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
     @Override
     public void setIndication (final boolean enable)
     {
+        if (this.sharedObjects != null && !this.sharedObjects.updateIndication (this.bank, this, enable))
+            return;
+
         for (int index = 0; index < this.getPageSize (); index++)
         {
             final ClipLauncherSlotBank bank = this.bank.getItemAt (index).clipLauncherSlotBank ();
@@ -110,6 +122,6 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new TrackImpl (this.host, this.valueChanger, this.cursorTrack, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
+            this.addItem (new TrackImpl (this.host, this.valueChanger, this.cursorTrack, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
     }
 }
\ No newline at end of file
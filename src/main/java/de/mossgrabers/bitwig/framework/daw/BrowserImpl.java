@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnImpl;
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnItemImpl;
 import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.BrowserResultCache;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
@@ -25,12 +26,18 @@ import com.bitwig.extension.controller.api.PopupBrowser;
  */
 public class BrowserImpl extends AbstractBrowser
 {
-    private CursorTrack             cursorTrack;
-    private PopupBrowser            browser;
-    final BrowserFilterColumn []    filterColumns;
+    private CursorTrack                cursorTrack;
+    private PopupBrowser               browser;
+    final BrowserFilterColumn []       filterColumns;
+    private final BrowserColumnImpl [] columns;
 
-    private CursorBrowserResultItem cursorResult;
-    private BrowserResultsItemBank  resultsItemBank;
+    private CursorBrowserResultItem    cursorResult;
+    private BrowserResultsItemBank     resultsItemBank;
+
+    private final BrowserResultCache   resultCache       = new BrowserResultCache ();
+    private int                        selectedPosition  = -1;
+    private int                        confirmedPosition = -1;
+    private int                        pendingSelection  = -1;
 
 
     /**
@@ -66,13 +73,27 @@ public class BrowserImpl extends AbstractBrowser
             this.browser.deviceColumn ()
         };
 
-        this.columnData = this.createFilterColumns (this.filterColumns.length, numFilterColumnEntries);
+        this.columns = this.createFilterColumns (this.filterColumns.length, numFilterColumnEntries);
+        this.columnData = this.columns;
 
         this.cursorResult = (CursorBrowserResultItem) this.browser.resultsColumn ().createCursorItem ();
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
+        this.resultsItemBank.scrollPosition ().markInterested ();
+        this.resultsItemBank.cursorIndex ().markInterested ();
+        this.resultsItemBank.itemCount ().markInterested ();
         this.resultData = this.createResultData (this.numResults);
+
+        // Keep the caches up to date when the DAW sends new values
+        this.browser.exists ().addValueObserver (exists -> this.updateFilter ());
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.updateFilter ());
+        for (final BrowserColumnImpl column: this.columns)
+            column.addCursorNameObserver (name -> this.updateFilter ());
+        this.resultsItemBank.scrollPosition ().addValueObserver (position -> this.updateResultCache ());
+        this.resultsItemBank.cursorIndex ().addValueObserver (index -> this.updateResultCache ());
+        for (final IBrowserColumnItem item: this.resultData)
+            item.addNameObserver (name -> this.updateResultCache ());
     }
 
 
@@ -89,6 +110,9 @@ public class BrowserImpl extends AbstractBrowser
             column.enableObservers (enable);
 
         this.cursorResult.name ().setIsSubscribed (enable);
+        this.resultsItemBank.scrollPosition ().setIsSubscribed (enable);
+        this.resultsItemBank.cursorIndex ().setIsSubscribed (enable);
+        this.resultsItemBank.itemCount ().setIsSubscribed (enable);
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
@@ -185,6 +209,10 @@ public class BrowserImpl extends AbstractBrowser
             this.browser.commit ();
         else
             this.browser.cancel ();
+
+        this.selectedPosition = -1;
+        this.confirmedPosition = -1;
+        this.pendingSelection = -1;
     }
 
 
@@ -201,6 +229,7 @@ public class BrowserImpl extends AbstractBrowser
     public void selectPreviousResult ()
     {
         this.cursorResult.selectPrevious ();
+        this.moveSelection (-1);
     }
 
 
@@ -209,6 +238,7 @@ public class BrowserImpl extends AbstractBrowser
     public void selectNextResult ()
     {
         this.cursorResult.selectNext ();
+        this.moveSelection (1);
     }
 
 
@@ -216,10 +246,56 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public String getSelectedResult ()
     {
+        // Show the predicted result until the DAW has caught up
+        if (this.selectedPosition >= 0 && this.selectedPosition != this.confirmedPosition)
+        {
+            final String name = this.resultCache.get (this.selectedPosition);
+            if (name != null)
+                return name;
+        }
         return this.cursorResult.name ().get ();
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedResultPosition ()
+    {
+        return this.selectedPosition;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getResultName (final int position)
+    {
+        return this.resultCache.get (position);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectResult (final String text)
+    {
+        this.updateResultCache ();
+
+        final int position = this.resultCache.find (text, this.selectedPosition + 1);
+        if (position < 0)
+            return false;
+
+        final int scrollPosition = this.resultsItemBank.scrollPosition ().get ();
+        if (position >= scrollPosition && position < scrollPosition + this.numResults)
+            this.resultsItemBank.getItemAt (position - scrollPosition).isSelected ().set (true);
+        else
+        {
+            // Select it when the page has arrived
+            this.pendingSelection = position;
+            this.resultsItemBank.scrollPosition ().set (position - position % this.numResults);
+        }
+        this.selectedPosition = position;
+        return true;
+    }
+
     /**
      * Select the previous result page.
      */
@@ -238,9 +314,101 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
-    private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
+    /**
+     * Moves the predicted selection. The window of the DAW is only scrolled if the page of the new
+     * selection was not received yet.
+     *
+     * @param delta The number of results to move
+     */
+    private void moveSelection (final int delta)
+    {
+        this.updateResultCache ();
+        if (this.selectedPosition < 0)
+            return;
+
+        final int count = this.resultsItemBank.itemCount ().get ();
+        this.selectedPosition = Math.max (0, Math.min (count - 1, this.selectedPosition + delta));
+
+        final int pageStart = this.selectedPosition - this.selectedPosition % this.numResults;
+        if (pageStart != this.resultsItemBank.scrollPosition ().get () && !this.resultCache.isCached (pageStart, Math.min (this.numResults, count - pageStart)))
+            this.resultsItemBank.scrollPosition ().set (pageStart);
+    }
+
+
+    /**
+     * Activates the cached results and filter items of the current filter set (the combination of
+     * content type and the selected filter items).
+     */
+    private void updateFilter ()
+    {
+        if (!this.isActive ())
+            return;
+
+        final String contentType = Integer.toString (this.getSelectedContentTypeIndex ());
+        final String [] cursorNames = new String [this.columns.length];
+        for (int i = 0; i < this.columns.length; i++)
+            cursorNames[i] = this.columns[i].getCursorName ();
+
+        if (this.resultCache.setFilter (contentType + "|" + String.join ("|", cursorNames)))
+        {
+            this.selectedPosition = -1;
+            this.confirmedPosition = -1;
+            this.pendingSelection = -1;
+        }
+
+        // The items of a filter column do not depend on its own selection
+        for (int i = 0; i < this.columns.length; i++)
+        {
+            final String cursorName = cursorNames[i];
+            cursorNames[i] = "";
+            this.columns[i].setFilter (contentType + "|" + String.join ("|", cursorNames));
+            cursorNames[i] = cursorName;
+        }
+
+        this.updateResultCache ();
+    }
+
+
+    /**
+     * Stores the results of the current window of the DAW in the cache and updates the selection
+     * position.
+     */
+    private void updateResultCache ()
+    {
+        if (!this.isActive ())
+            return;
+
+        final int scrollPosition = this.resultsItemBank.scrollPosition ().get ();
+        for (int i = 0; i < this.numResults; i++)
+        {
+            if (this.resultData[i].doesExist ())
+                this.resultCache.put (scrollPosition + i, this.resultData[i].getName ());
+        }
+
+        if (this.pendingSelection >= scrollPosition && this.pendingSelection < scrollPosition + this.numResults)
+        {
+            this.resultsItemBank.getItemAt (this.pendingSelection - scrollPosition).isSelected ().set (true);
+            this.pendingSelection = -1;
+        }
+
+        final int cursorIndex = this.resultsItemBank.cursorIndex ().get ();
+        if (cursorIndex < 0)
+            return;
+        final int position = scrollPosition + cursorIndex;
+        if (position == this.confirmedPosition)
+            return;
+
+        // Keep the predicted position while the DAW is still moving towards it
+        final boolean isMovingTowards = position > Math.min (this.confirmedPosition, this.selectedPosition) && position < Math.max (this.confirmedPosition, this.selectedPosition);
+        if (this.confirmedPosition < 0 || this.selectedPosition < 0 || !isMovingTowards)
+            this.selectedPosition = position;
+        this.confirmedPosition = position;
+    }
+
+
+    private BrowserColumnImpl [] createFilterColumns (final int count, final int numFilterColumnEntries)
     {
-        final IBrowserColumn [] columns = new IBrowserColumn [count];
+        final BrowserColumnImpl [] columns = new BrowserColumnImpl [count];
         for (int i = 0; i < count; i++)
             columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
         return columns;
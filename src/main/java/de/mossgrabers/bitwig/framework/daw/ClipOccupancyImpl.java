@@ -0,0 +1,74 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.ClipOccupancy;
+
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
+import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
+import com.bitwig.extension.controller.api.TrackBank;
+
+
+/**
+ * Index of the clips of all tracks and scenes of the project. Uses a track bank which covers the
+ * whole project and is never scrolled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClipOccupancyImpl extends ClipOccupancy
+{
+    private final TrackBank           trackBank;
+    private final ClipLauncherSlot [] slots;
+
+
+    /**
+     * Constructor.
+     *
+     * @param trackBank A track bank with numTracks tracks and numScenes scenes
+     * @param numTracks The number of tracks covered by the index
+     * @param numScenes The number of scenes covered by the index
+     */
+    public ClipOccupancyImpl (final TrackBank trackBank, final int numTracks, final int numScenes)
+    {
+        super (numTracks, numScenes);
+
+        this.trackBank = trackBank;
+        this.slots = new ClipLauncherSlot [numTracks * numScenes];
+
+        trackBank.itemCount ().addValueObserver (this::setTrackCount);
+        trackBank.sceneBank ().itemCount ().addValueObserver (this::setSceneCount);
+
+        for (int t = 0; t < numTracks; t++)
+        {
+            final int track = t;
+            final ClipLauncherSlotBank slotBank = trackBank.getItemAt (t).clipLauncherSlotBank ();
+            for (int s = 0; s < numScenes; s++)
+            {
+                final int scene = s;
+                final ClipLauncherSlot slot = slotBank.getItemAt (s);
+                this.slots[t * numScenes + s] = slot;
+                slot.hasContent ().addValueObserver (value -> this.setContent (track, scene, value));
+                slot.isPlaying ().addValueObserver (value -> this.setPlaying (track, scene, value));
+                slot.isRecording ().addValueObserver (value -> this.setRecording (track, scene, value));
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        this.trackBank.itemCount ().setIsSubscribed (enable);
+        this.trackBank.sceneBank ().itemCount ().setIsSubscribed (enable);
+
+        for (final ClipLauncherSlot slot: this.slots)
+        {
+            slot.hasContent ().setIsSubscribed (enable);
+            slot.isPlaying ().setIsSubscribed (enable);
+            slot.isRecording ().setIsSubscribed (enable);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Map;
 public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
 {
     private final PinnableCursorDevice cursorDevice;
+    private final SharedHostObjects    sharedObjects;
     private final CursorDeviceLayer    cursorDeviceLayer;
 
     private String []                  directParameterIds;
@@ -55,12 +56,17 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
      * @param numDevicesInBank The number of devices
      * @param numDeviceLayers The number of layers
      * @param numDrumPadLayers The number of drum pad layers
+     * @param sharedObjects The objects shared with other models if the cursor device is one of
+     *            them, otherwise null
      */
-    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final PinnableCursorDevice cursorDevice, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers, final SharedHostObjects sharedObjects)
     {
         super (cursorDevice, -1);
 
         this.cursorDevice = cursorDevice;
+        this.sharedObjects = sharedObjects;
+        if (this.sharedObjects != null)
+            this.sharedObjects.addSubscriber (cursorDevice, this);
 
         final int checkedNumParams = numParams >= 0 ? numParams : 8;
         final int checkedNumDevices = numDevicesInBank >= 0 ? numDevicesInBank : 8;
@@ -118,20 +124,24 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
     @Override
     public void enableObservers (final boolean enable)
     {
-        super.enableObservers (enable);
-
-        this.cursorDevice.isEnabled ().setIsSubscribed (enable);
-        this.cursorDevice.isPlugin ().setIsSubscribed (enable);
-        this.cursorDevice.hasPrevious ().setIsSubscribed (enable);
-        this.cursorDevice.hasNext ().setIsSubscribed (enable);
-        this.cursorDevice.isExpanded ().setIsSubscribed (enable);
-        this.cursorDevice.isRemoteControlsSectionVisible ().setIsSubscribed (enable);
-        this.cursorDevice.isWindowOpen ().setIsSubscribed (enable);
-        this.cursorDevice.isNested ().setIsSubscribed (enable);
-        this.cursorDevice.hasDrumPads ().setIsSubscribed (enable);
-        this.cursorDevice.hasLayers ().setIsSubscribed (enable);
-        this.cursorDevice.hasSlots ().setIsSubscribed (enable);
-        this.cursorDevice.isPinned ().setIsSubscribed (enable);
+        // The values of a shared cursor device must stay subscribed while other models use them
+        if (this.sharedObjects == null || this.sharedObjects.updateSubscription (this.cursorDevice, this, enable))
+        {
+            super.enableObservers (enable);
+
+            this.cursorDevice.isEnabled ().setIsSubscribed (enable);
+            this.cursorDevice.isPlugin ().setIsSubscribed (enable);
+            this.cursorDevice.hasPrevious ().setIsSubscribed (enable);
+            this.cursorDevice.hasNext ().setIsSubscribed (enable);
+            this.cursorDevice.isExpanded ().setIsSubscribed (enable);
+            this.cursorDevice.isRemoteControlsSectionVisible ().setIsSubscribed (enable);
+            this.cursorDevice.isWindowOpen ().setIsSubscribed (enable);
+            this.cursorDevice.isNested ().setIsSubscribed (enable);
+            this.cursorDevice.hasDrumPads ().setIsSubscribed (enable);
+            this.cursorDevice.hasLayers ().setIsSubscribed (enable);
+            this.cursorDevice.hasSlots ().setIsSubscribed (enable);
+            this.cursorDevice.isPinned ().setIsSubscribed (enable);
+        }
 
         if (this.parameterBank != null)
         {
@@ -48,7 +48,7 @@ public class DeviceBankImpl extends AbstractBankImpl<DeviceBank, IDevice> implem
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new DeviceImpl (this.bank.getItemAt (i), i));
+            this.addItem (new DeviceImpl (this.bank.getItemAt (i), i));
     }
 
 
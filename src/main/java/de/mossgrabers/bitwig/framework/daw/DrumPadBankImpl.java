@@ -54,7 +54,7 @@ public class DrumPadBankImpl extends AbstractBankImpl<DrumPadBank, IDrumPad> imp
         for (int i = 0; i < this.pageSize; i++)
         {
             final DrumPad deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.addItem (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
         }
     }
 
@@ -32,10 +32,12 @@ public class EffectTrackBankImpl extends AbstractTrackBankImpl
      * @param numTracks The number of track of a bank page
      * @param numScenes The number of scenes of a bank page
      * @param audioInstrumentTrackBank The trackbank which monitors the audio and instrument tracks
+     * @param sharedObjects The objects shared with other models if the bank is one of them,
+     *            otherwise null
      */
-    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank effectTrackBank, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank)
+    public EffectTrackBankImpl (final IHost host, final IValueChanger valueChanger, final CursorTrack cursorTrack, final TrackBank effectTrackBank, final int numTracks, final int numScenes, final ITrackBank audioInstrumentTrackBank, final SharedHostObjects sharedObjects)
     {
-        super (host, valueChanger, cursorTrack, effectTrackBank, numTracks, numScenes, 0);
+        super (host, valueChanger, cursorTrack, effectTrackBank, numTracks, numScenes, 0, sharedObjects);
 
         this.bank.followCursorTrack (cursorTrack);
         this.audioInstrumentTrackBank = audioInstrumentTrackBank;
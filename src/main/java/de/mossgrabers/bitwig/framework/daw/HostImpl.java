@@ -174,7 +174,7 @@ public class HostImpl implements IHost
     {
         final OscModule oscModule = this.host.getOscModule ();
         final OscAddressSpace addressSpace = oscModule.createAddressSpace ();
-        addressSpace.registerDefaultMethod ( (source, message) -> callback.handle (new OpenSoundControlMessageImpl (message)));
+        addressSpace.registerDefaultMethod ( (source, message) -> callback.handle (new OpenSoundControlMessageImpl (message, source == null ? null : new OpenSoundControlClientImpl (source))));
         // Requires API 9
         // return new OpenSoundControlServerImpl (oscModule.createUdpServer2 (addressSpace));
         oscModule.createUdpServer (8000, addressSpace);
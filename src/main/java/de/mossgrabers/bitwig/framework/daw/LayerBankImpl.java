@@ -60,7 +60,7 @@ public class LayerBankImpl extends AbstractBankImpl<DeviceLayerBank, ILayer> imp
         for (int i = 0; i < this.pageSize; i++)
         {
             final DeviceLayer deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            this.addItem (new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
         }
     }
 
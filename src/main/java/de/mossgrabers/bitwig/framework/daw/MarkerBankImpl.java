@@ -48,6 +48,6 @@ public class MarkerBankImpl extends AbstractBankImpl<CueMarkerBank, IMarker> imp
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new MarkerImpl (this.bank.getItemAt (i), i));
+            this.addItem (new MarkerImpl (this.bank.getItemAt (i), i));
     }
 }
@@ -27,6 +27,7 @@ import com.bitwig.extension.controller.api.Project;
 import com.bitwig.extension.controller.api.Track;
 import com.bitwig.extension.controller.api.TrackBank;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,13 +39,14 @@ import java.util.Map;
  */
 public class ModelImpl extends AbstractModel
 {
-    private static final int               ALL_TRACKS = 1000;
-
     private final ControllerHost           controllerHost;
+    private final SharedHostObjects        sharedObjects;
     private final CursorTrack              cursorTrack;
     private final BooleanValue             masterTrackEqualsValue;
-    private final Map<Integer, ISceneBank> sceneBanks = new HashMap<> (1);
+    private final Map<Integer, ISceneBank> sceneBanks     = new HashMap<> (1);
     private final TrackBank                muteSoloTrackBank;
+    private final BitSet                   reportedValues = new BitSet ();
+    private int                            numReadinessValues;
 
     private Track                          rootTrackGroup;
 
@@ -82,44 +84,55 @@ public class ModelImpl extends AbstractModel
         final MasterTrack master = controllerHost.createMasterTrack (0);
         this.masterTrack = new MasterTrackImpl (this.host, valueChanger, master);
 
-        this.cursorTrack = controllerHost.createCursorTrack ("MyCursorTrackID", "The Cursor Track", 0, 0, true);
-        this.cursorTrack.isPinned ().markInterested ();
+        this.sharedObjects = SharedHostObjects.acquire (controllerHost);
+        this.cursorTrack = this.sharedObjects.getCursorTrack ();
 
-        final TrackBank tb;
         final int numTracks = this.modelSetup.getNumTracks ();
         final int numSends = this.modelSetup.getNumSends ();
         final int numScenes = this.modelSetup.getNumScenes ();
-        if (this.modelSetup.hasFlatTrackList ())
-        {
-            if (this.modelSetup.hasFullFlatTrackList ())
-                tb = controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
-            else
-                tb = controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
-            tb.followCursorTrack (this.cursorTrack);
-        }
-        else
-            tb = this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
+        final TrackBank tb = this.sharedObjects.getTrackBank (this.modelSetup.hasFlatTrackList (), this.modelSetup.hasFullFlatTrackList (), numTracks, numSends, numScenes);
 
         this.rootTrackGroup = proj.getRootTrackGroup ();
-        this.trackBank = new TrackBankImpl (this.host, valueChanger, tb, this.cursorTrack, this.rootTrackGroup, numTracks, numScenes, numSends);
-        final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
-        this.effectTrackBank = new EffectTrackBankImpl (this.host, valueChanger, this.cursorTrack, effectTrackBank, numTracks, numScenes, this.trackBank);
+        this.trackBank = new TrackBankImpl (this.host, valueChanger, tb, this.cursorTrack, this.rootTrackGroup, numTracks, numScenes, numSends, this.sharedObjects);
+        final TrackBank effectTrackBank = this.sharedObjects.getEffectTrackBank (numTracks, numScenes);
+        this.effectTrackBank = new EffectTrackBankImpl (this.host, valueChanger, this.cursorTrack, effectTrackBank, numTracks, numScenes, this.trackBank, this.sharedObjects);
 
-        this.muteSoloTrackBank = controllerHost.createTrackBank (ALL_TRACKS, 0, 0, true);
-        for (int i = 0; i < ALL_TRACKS; i++)
-            this.muteSoloTrackBank.getItemAt (i).solo ().markInterested ();
+        this.muteSoloTrackBank = this.sharedObjects.getMuteSoloTrackBank ();
+
+        final int numOccupancyTracks = this.modelSetup.getNumOccupancyTracks ();
+        final int numOccupancyScenes = this.modelSetup.getNumOccupancyScenes ();
+        if (numOccupancyTracks > 0 && numOccupancyScenes > 0)
+        {
+            // Not shared, since it must never be scrolled
+            final TrackBank occupancyBank;
+            if (!this.modelSetup.hasFlatTrackList ())
+                occupancyBank = this.cursorTrack.createSiblingsTrackBank (numOccupancyTracks, 0, numOccupancyScenes, false, false);
+            else if (this.modelSetup.hasFullFlatTrackList ())
+                occupancyBank = controllerHost.createTrackBank (numOccupancyTracks, 0, numOccupancyScenes, true);
+            else
+                occupancyBank = controllerHost.createMainTrackBank (numOccupancyTracks, 0, numOccupancyScenes);
+            this.clipOccupancy = new ClipOccupancyImpl (occupancyBank, numOccupancyTracks, numOccupancyScenes);
+            // Only observed while a session view or a search for content uses it
+            this.subscriptionManager.declare (this.clipOccupancy);
+        }
 
         final int numParams = this.modelSetup.getNumParams ();
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
         final int numDrumPadLayers = this.modelSetup.getNumDrumPadLayers ();
         final int numDevicesInBank = this.modelSetup.getNumDevicesInBank ();
-        this.instrumentDevice = new CursorDeviceImpl (this.host, valueChanger, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
-        PinnableCursorDevice cd = this.cursorTrack.createCursorDevice ("CURSOR_DEVICE", "Cursor device", numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
-        this.cursorDevice = new CursorDeviceImpl (this.host, valueChanger, cd, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        this.instrumentDevice = new CursorDeviceImpl (this.host, valueChanger, this.sharedObjects.getCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers, this.sharedObjects);
+        PinnableCursorDevice cd = this.sharedObjects.getCursorDevice ("CURSOR_DEVICE", "Cursor device", numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
+        this.cursorDevice = new CursorDeviceImpl (this.host, valueChanger, cd, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers, this.sharedObjects);
+        // The model is ready when the DAW reported these values, it reports all initial values
+        // together
+        this.observeReadiness (this.cursorTrack.exists ());
+        if (numTracks > 0)
+            this.observeReadiness (tb.getItemAt (0).exists ());
+        this.observeReadiness (cd.exists ());
         if (numDrumPadLayers > 0)
         {
-            cd = this.cursorTrack.createCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
-            this.drumDevice64 = new CursorDeviceImpl (this.host, valueChanger, cd, 0, 0, -1, 64, 64);
+            cd = this.sharedObjects.getCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
+            this.drumDevice64 = new CursorDeviceImpl (this.host, valueChanger, cd, 0, 0, -1, 64, 64, this.sharedObjects);
         }
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
@@ -139,7 +152,7 @@ public class ModelImpl extends AbstractModel
         return this.sceneBanks.computeIfAbsent (Integer.valueOf (numScenes), key -> {
             final TrackBank tb = this.controllerHost.createMainTrackBank (1, this.modelSetup.getNumSends (), numScenes);
             tb.followCursorTrack (this.cursorTrack);
-            return new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, 1, numScenes, 0).getSceneBank ();
+            return new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, 1, numScenes, 0, null).getSceneBank ();
         });
     }
 
@@ -148,7 +161,7 @@ public class ModelImpl extends AbstractModel
     @Override
     public boolean hasSolo ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        for (int i = 0; i < SharedHostObjects.ALL_TRACKS; i++)
         {
             if (this.muteSoloTrackBank.getItemAt (i).solo ().get ())
                 return true;
@@ -161,7 +174,7 @@ public class ModelImpl extends AbstractModel
     @Override
     public void deactivateSolo ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        for (int i = 0; i < SharedHostObjects.ALL_TRACKS; i++)
             this.muteSoloTrackBank.getItemAt (i).solo ().set (false);
     }
 
@@ -170,7 +183,7 @@ public class ModelImpl extends AbstractModel
     @Override
     public void deactivateMute ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        for (int i = 0; i < SharedHostObjects.ALL_TRACKS; i++)
             this.muteSoloTrackBank.getItemAt (i).mute ().set (false);
     }
 
@@ -223,4 +236,24 @@ public class ModelImpl extends AbstractModel
     {
         this.getNoteClip (0, 0);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isReady ()
+    {
+        return this.reportedValues.cardinality () == this.numReadinessValues;
+    }
+
+
+    /**
+     * Track if the DAW has reported the value at least once.
+     *
+     * @param value The value
+     */
+    private void observeReadiness (final BooleanValue value)
+    {
+        final int index = this.numReadinessValues++;
+        value.addValueObserver (v -> this.reportedValues.set (index));
+    }
 }
\ No newline at end of file
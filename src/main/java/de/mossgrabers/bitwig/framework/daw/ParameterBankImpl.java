@@ -60,7 +60,7 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i));
+            this.addItem (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i));
     }
 
 
@@ -0,0 +1,242 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import com.bitwig.extension.controller.api.ControllerHost;
+import com.bitwig.extension.controller.api.CursorDeviceFollowMode;
+import com.bitwig.extension.controller.api.CursorTrack;
+import com.bitwig.extension.controller.api.PinnableCursorDevice;
+import com.bitwig.extension.controller.api.TrackBank;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * The objects of the Bitwig API which are shared by all models of the same extension, e.g. if
+ * several controllers are hosted by one extension. The objects are reference counted, the first
+ * model creates them and the last one releases them. Track banks and cursor devices are shared if
+ * their sizes match. Therefore, shared banks are scrolled together.
+ * <p>
+ * The subscriptions of the shared objects are reference counted as well. Each wrapper of a shared
+ * object is registered as a subscriber. Disabling the observers of a wrapper only unsubscribes the
+ * object when no other wrapper still needs it. The same applies to the indication of a bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SharedHostObjects
+{
+    /** The number of tracks of the bank to check for soloed tracks. */
+    public static final int                                     ALL_TRACKS  = 1000;
+
+    private static final Map<ControllerHost, SharedHostObjects> INSTANCES   = new HashMap<> ();
+
+    private final ControllerHost                                controllerHost;
+    private final CursorTrack                                   cursorTrack;
+    private final Map<String, TrackBank>                        trackBanks  = new HashMap<> ();
+    private final Map<String, PinnableCursorDevice>             devices     = new HashMap<> ();
+    private final Map<Object, Set<Object>>                      subscribers = new IdentityHashMap<> ();
+    private final Map<Object, Set<Object>>                      indicators  = new IdentityHashMap<> ();
+    private TrackBank                                           muteSoloTrackBank;
+    private int                                                 references;
+
+
+    /**
+     * Get the shared objects of a host and increase the reference count.
+     *
+     * @param controllerHost The host
+     * @return The shared objects
+     */
+    public static synchronized SharedHostObjects acquire (final ControllerHost controllerHost)
+    {
+        final SharedHostObjects objects = INSTANCES.computeIfAbsent (controllerHost, SharedHostObjects::new);
+        objects.references++;
+        return objects;
+    }
+
+
+    /**
+     * Decrease the reference count of the shared objects of a host. The objects are removed if they
+     * are no longer used.
+     *
+     * @param controllerHost The host
+     */
+    public static synchronized void release (final ControllerHost controllerHost)
+    {
+        final SharedHostObjects objects = INSTANCES.get (controllerHost);
+        if (objects == null)
+            return;
+        objects.references--;
+        if (objects.references <= 0)
+            INSTANCES.remove (controllerHost);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param controllerHost The host
+     */
+    private SharedHostObjects (final ControllerHost controllerHost)
+    {
+        this.controllerHost = controllerHost;
+
+        this.cursorTrack = controllerHost.createCursorTrack ("MyCursorTrackID", "The Cursor Track", 0, 0, true);
+        this.cursorTrack.isPinned ().markInterested ();
+    }
+
+
+    /**
+     * Get the cursor track.
+     *
+     * @return The cursor track
+     */
+    public CursorTrack getCursorTrack ()
+    {
+        return this.cursorTrack;
+    }
+
+
+    /**
+     * Get the bank with all tracks for checking and changing the solo and mute states.
+     *
+     * @return The bank with ALL_TRACKS tracks
+     */
+    public synchronized TrackBank getMuteSoloTrackBank ()
+    {
+        if (this.muteSoloTrackBank == null)
+        {
+            this.muteSoloTrackBank = this.controllerHost.createTrackBank (ALL_TRACKS, 0, 0, true);
+            for (int i = 0; i < ALL_TRACKS; i++)
+                this.muteSoloTrackBank.getItemAt (i).solo ().markInterested ();
+        }
+        return this.muteSoloTrackBank;
+    }
+
+
+    /**
+     * Get a track bank.
+     *
+     * @param hasFlatTrackList True for a flat list of tracks, false for the siblings of the cursor
+     *            track
+     * @param hasFullFlatTrackList True to include the tracks in closed groups (only for flat lists)
+     * @param numTracks The number of tracks of a bank page
+     * @param numSends The number of sends of a bank page
+     * @param numScenes The number of scenes of a bank page
+     * @return The bank
+     */
+    public synchronized TrackBank getTrackBank (final boolean hasFlatTrackList, final boolean hasFullFlatTrackList, final int numTracks, final int numSends, final int numScenes)
+    {
+        final String type = hasFlatTrackList ? hasFullFlatTrackList ? "full" : "main" : "siblings";
+        return this.trackBanks.computeIfAbsent (type + "-" + numTracks + "-" + numSends + "-" + numScenes, key -> {
+            if (!hasFlatTrackList)
+                return this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
+
+            final TrackBank tb;
+            if (hasFullFlatTrackList)
+                tb = this.controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
+            else
+                tb = this.controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
+            tb.followCursorTrack (this.cursorTrack);
+            return tb;
+        });
+    }
+
+
+    /**
+     * Get an effect track bank.
+     *
+     * @param numTracks The number of tracks of a bank page
+     * @param numScenes The number of scenes of a bank page
+     * @return The bank
+     */
+    public synchronized TrackBank getEffectTrackBank (final int numTracks, final int numScenes)
+    {
+        return this.trackBanks.computeIfAbsent ("effect-" + numTracks + "-" + numScenes, key -> this.controllerHost.createEffectTrackBank (numTracks, numScenes));
+    }
+
+
+    /**
+     * Get a cursor device of the cursor track.
+     *
+     * @param id The ID of the cursor device
+     * @param name The name of the cursor device
+     * @param numSends The number of sends
+     * @param followMode The follow mode
+     * @return The cursor device
+     */
+    public synchronized PinnableCursorDevice getCursorDevice (final String id, final String name, final int numSends, final CursorDeviceFollowMode followMode)
+    {
+        final String key = id + "-" + numSends;
+        PinnableCursorDevice device = this.devices.get (key);
+        if (device != null)
+            return device;
+
+        // The IDs must be unique, keep the original ID for the first device
+        final boolean isIdUsed = this.devices.keySet ().stream ().anyMatch (k -> k.startsWith (id + "-"));
+        device = this.cursorTrack.createCursorDevice (isIdUsed ? key : id, name, numSends, followMode);
+        this.devices.put (key, device);
+        return device;
+    }
+
+
+    /**
+     * Register a wrapper of a shared object. The wrapper is subscribed, since all observers are
+     * enabled by default.
+     *
+     * @param hostObject The shared object
+     * @param wrapper The wrapper
+     */
+    public synchronized void addSubscriber (final Object hostObject, final Object wrapper)
+    {
+        this.subscribers.computeIfAbsent (hostObject, key -> Collections.newSetFromMap (new IdentityHashMap<> ())).add (wrapper);
+    }
+
+
+    /**
+     * Update the subscription of a wrapper of a shared object.
+     *
+     * @param hostObject The shared object
+     * @param wrapper The wrapper
+     * @param enable True to subscribe, false to unsubscribe
+     * @return True if the wrapper should en-/disable the observers of the object, false if other
+     *         wrappers still need them
+     */
+    public synchronized boolean updateSubscription (final Object hostObject, final Object wrapper, final boolean enable)
+    {
+        return update (this.subscribers, hostObject, wrapper, enable);
+    }
+
+
+    /**
+     * Update the indication of a wrapper of a shared bank.
+     *
+     * @param hostObject The shared bank
+     * @param wrapper The wrapper
+     * @param enable True to enable the indication, false to disable it
+     * @return True if the wrapper should change the indication of the bank, false if other wrappers
+     *         still show it
+     */
+    public synchronized boolean updateIndication (final Object hostObject, final Object wrapper, final boolean enable)
+    {
+        return update (this.indicators, hostObject, wrapper, enable);
+    }
+
+
+    private static boolean update (final Map<Object, Set<Object>> wrappers, final Object hostObject, final Object wrapper, final boolean enable)
+    {
+        final Set<Object> active = wrappers.computeIfAbsent (hostObject, key -> Collections.newSetFromMap (new IdentityHashMap<> ()));
+        if (enable)
+        {
+            active.add (wrapper);
+            return true;
+        }
+        active.remove (wrapper);
+        return active.isEmpty ();
+    }
+}
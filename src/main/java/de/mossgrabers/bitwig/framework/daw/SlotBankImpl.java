@@ -35,7 +35,8 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
      */
     public SlotBankImpl (final IHost host, final IValueChanger valueChanger, final ITrack track, final ClipLauncherSlotBank clipLauncherSlotBank, final int numSlots)
     {
-        super (host, valueChanger, clipLauncherSlotBank, numSlots);
+        // The slots observe their selection state themselves
+        super (host, valueChanger, clipLauncherSlotBank, numSlots, false);
         this.track = track;
         this.initItems ();
     }
@@ -62,6 +63,6 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SlotImpl (this.track, this.bank, this.bank.getItemAt (i), i));
+            this.addItem (new SlotImpl (this.track, this.bank, this.bank.getItemAt (i), i));
     }
 }
\ No newline at end of file
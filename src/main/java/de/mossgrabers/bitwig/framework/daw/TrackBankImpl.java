@@ -33,10 +33,12 @@ public class TrackBankImpl extends AbstractTrackBankImpl
      * @param numTracks The number of tracks in a bank page
      * @param numScenes The number of scenes in a bank page
      * @param numSends The number of sends in a bank page
+     * @param sharedObjects The objects shared with other models if the bank is one of them,
+     *            otherwise null
      */
-    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final int numTracks, final int numScenes, final int numSends)
+    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final TrackBank bank, final CursorTrack cursorTrack, final Track rootGroup, final int numTracks, final int numScenes, final int numSends, final SharedHostObjects sharedObjects)
     {
-        super (host, valueChanger, cursorTrack, bank, numTracks, numScenes, numSends);
+        super (host, valueChanger, cursorTrack, bank, numTracks, numScenes, numSends, sharedObjects);
 
         // TODO Requires API 9
         // this.isTopGroup = this.bank.getItemAt (0).createParentTrack (0, 0).createEqualsValue
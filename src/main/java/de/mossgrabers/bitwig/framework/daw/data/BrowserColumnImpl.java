@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.BrowserResultCache;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
@@ -27,6 +28,9 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     private BrowserItemBank<?>        itemBank;
     private CursorBrowserFilterItem   cursorResult;
 
+    private final BrowserResultCache  itemCache        = new BrowserResultCache ();
+    private int                       pendingSelection = -1;
+
 
     /**
      * Constructor.
@@ -47,10 +51,14 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
 
         this.itemBank = ((CursorBrowserItem) column.createCursorItem ()).createSiblingsBank (numFilterColumnEntries);
         this.itemBank.cursorIndex ().markInterested ();
+        this.itemBank.scrollPosition ().addValueObserver (position -> this.updateItemCache ());
 
         this.items = new IBrowserColumnItem [numFilterColumnEntries];
         for (int i = 0; i < numFilterColumnEntries; i++)
+        {
             this.items[i] = new BrowserColumnItemImpl (this.itemBank.getItemAt (i), i);
+            this.items[i].addNameObserver (name -> this.updateItemCache ());
+        }
 
         this.cursorResult = (CursorBrowserFilterItem) column.createCursorItem ();
         this.cursorResult.exists ().markInterested ();
@@ -66,6 +74,7 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
         this.column.name ().setIsSubscribed (enable);
         this.column.getWildcardItem ().name ().setIsSubscribed (enable);
         this.itemBank.cursorIndex ().setIsSubscribed (enable);
+        this.itemBank.scrollPosition ().setIsSubscribed (enable);
 
         for (final IBrowserColumnItem item: this.items)
             item.enableObservers (enable);
@@ -201,4 +210,73 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     {
         this.itemBank.cursorIndex ().set (index);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectItem (final String text)
+    {
+        final int scrollPosition = this.itemBank.scrollPosition ().get ();
+        final int cursorIndex = this.getCursorIndex ();
+        final int position = this.itemCache.find (text, cursorIndex < 0 ? 0 : scrollPosition + cursorIndex + 1);
+        if (position < 0)
+            return false;
+
+        final int pageSize = this.items.length;
+        if (position >= scrollPosition && position < scrollPosition + pageSize)
+            this.itemBank.getItemAt (position - scrollPosition).isSelected ().set (true);
+        else
+        {
+            // Select it when the page has arrived
+            this.pendingSelection = position;
+            this.itemBank.scrollPosition ().set (position - position % pageSize);
+        }
+        return true;
+    }
+
+
+    /**
+     * Add an observer for the name of the cursor item.
+     *
+     * @param observer The observer
+     */
+    public void addCursorNameObserver (final IValueObserver<String> observer)
+    {
+        this.cursorResult.name ().addValueObserver (observer::update);
+    }
+
+
+    /**
+     * Set the active filter set, the items are cached separately for each filter set.
+     *
+     * @param filterKey A text which identifies the filter set
+     */
+    public void setFilter (final String filterKey)
+    {
+        if (!this.itemCache.setFilter (filterKey))
+            return;
+        this.pendingSelection = -1;
+        this.updateItemCache ();
+    }
+
+
+    /**
+     * Stores the items of the current page in the cache and selects a pending item if its page has
+     * arrived.
+     */
+    private void updateItemCache ()
+    {
+        final int scrollPosition = this.itemBank.scrollPosition ().get ();
+        for (int i = 0; i < this.items.length; i++)
+        {
+            if (this.items[i].doesExist ())
+                this.itemCache.put (scrollPosition + i, this.items[i].getName ());
+        }
+
+        if (this.pendingSelection >= scrollPosition && this.pendingSelection < scrollPosition + this.items.length)
+        {
+            this.itemBank.getItemAt (this.pendingSelection - scrollPosition).isSelected ().set (true);
+            this.pendingSelection = -1;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.data.VuMeterSource;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 import com.bitwig.extension.controller.api.Channel;
@@ -27,8 +28,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
 
     private static final int      MAX_RESOLUTION = 16384;
 
-    private int                   vuLeft;
-    private int                   vuRight;
+    private final VuMeterSource   vuMeterSource  = new VuMeterSource (MAX_RESOLUTION);
     private IParameter            volumeParameter;
     private IParameter            panParameter;
     private ISendBank             sendBank;
@@ -63,8 +63,10 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), 0);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), 0);
 
-        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
-        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+        // The API requires to register the meter observers on startup, the meter source drops
+        // the values while the meters are not subscribed
+        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this.vuMeterSource::handleLeft);
+        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this.vuMeterSource::handleRight);
 
         this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
     }
@@ -85,6 +87,8 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.panParameter.enableObservers (enable);
 
         this.sendBank.enableObservers (enable);
+
+        this.vuMeterSource.enableObservers (enable);
     }
 
 
@@ -346,7 +350,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVu ()
     {
-        return (this.vuLeft + this.vuRight) * this.valueChanger.getUpperBound () / MAX_RESOLUTION / 2;
+        return (this.vuMeterSource.getLeft () + this.vuMeterSource.getRight ()) * this.valueChanger.getUpperBound () / MAX_RESOLUTION / 2;
     }
 
 
@@ -354,7 +358,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuLeft ()
     {
-        return this.vuLeft * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeterSource.getLeft () * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
     }
 
 
@@ -362,7 +366,15 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuRight ()
     {
-        return this.vuRight * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeterSource.getRight () * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribeVuMeters (final boolean subscribe)
+    {
+        this.vuMeterSource.subscribe (subscribe);
     }
 
 
@@ -408,20 +420,4 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     {
         // Intentionally empty
     }
-
-
-    private void handleVULeftMeter (final int value)
-    {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
-    }
-
-
-    private void handleVURightMeter (final int value)
-    {
-        // Limit value to this.configuration.getMaxParameterValue () due to
-        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
-    }
 }
@@ -21,6 +21,7 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
 {
     private final IValueChanger valueChanger;
     private final Parameter     parameter;
+    private final int           accelerationID;
 
 
     /**
@@ -36,6 +37,7 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
 
         this.valueChanger = valueChanger;
         this.parameter = parameter;
+        this.accelerationID = valueChanger.getAcceleration ().register (this::inc);
 
         parameter.exists ().markInterested ();
         parameter.name ().markInterested ();
@@ -133,7 +135,7 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
     @Override
     public void changeValue (final int value)
     {
-        this.inc (this.valueChanger.calcKnobSpeed (value));
+        this.valueChanger.getAcceleration ().change (this.accelerationID, this.valueChanger.calcKnobSpeed (value), !this.valueChanger.isSlow ());
     }
 
 
@@ -55,7 +55,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.isRecording ().markInterested ();
         slot.isRecordingQueued ().markInterested ();
         slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        slot.isSelected ().addValueObserver (this::setSelected);
     }
 
 
@@ -117,14 +117,6 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public boolean isSelected ()
-    {
-        return this.slot.isSelected ().get ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public boolean hasContent ()
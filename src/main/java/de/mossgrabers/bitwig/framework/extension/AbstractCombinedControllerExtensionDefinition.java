@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.extension;
+
+import de.mossgrabers.framework.controller.IControllerDefinition;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.utils.OperatingSystem;
+import de.mossgrabers.framework.utils.Pair;
+
+import com.bitwig.extension.api.PlatformType;
+import com.bitwig.extension.controller.AutoDetectionMidiPortNamesList;
+import com.bitwig.extension.controller.ControllerExtension;
+import com.bitwig.extension.controller.ControllerExtensionDefinition;
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Definition for an extension which hosts several controllers. All controllers share the objects of
+ * the DAW which they have in common, e.g. the cursor track, the bank for checking the solo states
+ * and the track banks with the same page sizes. The midi ports of the controllers are appended in
+ * the order of the definitions, use getPortOffset to create the setup factory of each controller.
+ * Each controller gets the same number of input and output ports, unused ports are left
+ * unconnected.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractCombinedControllerExtensionDefinition extends ControllerExtensionDefinition
+{
+    private final IControllerDefinition [] definitions;
+
+
+    /**
+     * Constructor.
+     *
+     * @param definitions The definitions of the hosted controllers
+     */
+    public AbstractCombinedControllerExtensionDefinition (final IControllerDefinition... definitions)
+    {
+        this.definitions = definitions;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAuthor ()
+    {
+        return this.definitions[0].getAuthor ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.getHardwareModel ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion ()
+    {
+        return this.definitions[0].getVersion (Package.getPackage ("de.mossgrabers.framework.daw"));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getHardwareVendor ()
+    {
+        return this.definitions[0].getHardwareVendor ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getHardwareModel ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (final IControllerDefinition definition: this.definitions)
+        {
+            if (sb.length () > 0)
+                sb.append (" + ");
+            sb.append (definition.getHardwareModel ());
+        }
+        return sb.toString ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRequiredAPIVersion ()
+    {
+        return 7;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumMidiInPorts ()
+    {
+        return this.getPortOffset (this.definitions.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumMidiOutPorts ()
+    {
+        return this.getPortOffset (this.definitions.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void listAutoDetectionMidiPortNames (final AutoDetectionMidiPortNamesList list, final PlatformType platformType)
+    {
+        // Combine the first discovery pair of each controller, only possible if there are no
+        // unused ports
+        final OperatingSystem os = OperatingSystem.valueOf (platformType.name ().toUpperCase ());
+        final List<String> inputs = new ArrayList<> ();
+        final List<String> outputs = new ArrayList<> ();
+        for (final IControllerDefinition definition: this.definitions)
+        {
+            final List<Pair<String [], String []>> pairs = definition.getMidiDiscoveryPairs (os);
+            if (pairs.isEmpty () || definition.getNumMidiInPorts () != definition.getNumMidiOutPorts ())
+                return;
+            for (final String input: pairs.get (0).getKey ())
+                inputs.add (input);
+            for (final String output: pairs.get (0).getValue ())
+                outputs.add (output);
+        }
+        list.add (inputs.toArray (new String [inputs.size ()]), outputs.toArray (new String [outputs.size ()]));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ControllerExtension createInstance (final ControllerHost host)
+    {
+        return new GenericControllerExtension (this, host, this.getControllerSetups (host));
+    }
+
+
+    /**
+     * Get the index of the first midi input and output port of a controller.
+     *
+     * @param index The index of the controller definition
+     * @return The index of the first port
+     */
+    protected int getPortOffset (final int index)
+    {
+        int offset = 0;
+        for (int i = 0; i < index; i++)
+            offset += Math.max (this.definitions[i].getNumMidiInPorts (), this.definitions[i].getNumMidiOutPorts ());
+        return offset;
+    }
+
+
+    /**
+     * Get the controller setups for this extension, in the order of the definitions.
+     *
+     * @param host The host
+     * @return The controller setups
+     */
+    protected abstract IControllerSetup [] getControllerSetups (final ControllerHost host);
+}
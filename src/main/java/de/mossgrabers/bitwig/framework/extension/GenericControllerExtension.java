@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.extension;
 
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.IModel;
 
 import com.bitwig.extension.controller.ControllerExtension;
 import com.bitwig.extension.controller.ControllerExtensionDefinition;
@@ -12,13 +13,22 @@ import com.bitwig.extension.controller.api.ControllerHost;
 
 
 /**
- * A generic controller extension implementation, which delegates to a setup instance.
+ * A generic controller extension implementation, which delegates to one or several setup
+ * instances. Several setups share the objects of the DAW which they have in common.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class GenericControllerExtension extends ControllerExtension
 {
-    private IControllerSetup setup;
+    /**
+     * Time in milliseconds after which the controller is started, if the DAW did not report the
+     * values of the models.
+     */
+    private static final int          STARTUP_TIMEOUT = 1000;
+
+    private final IControllerSetup [] setups;
+    private long                      initTime;
+    private boolean                   isRunning;
 
 
     /**
@@ -29,9 +39,22 @@ public class GenericControllerExtension extends ControllerExtension
      * @param host The DAW host
      */
     public GenericControllerExtension (final IControllerSetup setup, final ControllerExtensionDefinition definition, final ControllerHost host)
+    {
+        this (definition, host, setup);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param definition A definition
+     * @param host The DAW host
+     * @param setups Several setups which are hosted by this extension
+     */
+    public GenericControllerExtension (final ControllerExtensionDefinition definition, final ControllerHost host, final IControllerSetup... setups)
     {
         super (definition, host);
-        this.setup = setup;
+        this.setups = setups;
     }
 
 
@@ -39,12 +62,16 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void init ()
     {
-        this.setup.init ();
-        final ControllerHost host = this.getHost ();
-        host.scheduleTask ( () -> {
-            this.setup.startup ();
-            host.println ("Running.");
-        }, 1000);
+        this.initTime = System.currentTimeMillis ();
+        for (final IControllerSetup setup: this.setups)
+            setup.init ();
+        this.getHost ().scheduleTask ( () -> {
+            if (!this.isRunning)
+            {
+                this.getHost ().println ("Model not ready after " + STARTUP_TIMEOUT + "ms, starting anyway.");
+                this.startup ();
+            }
+        }, STARTUP_TIMEOUT);
     }
 
 
@@ -52,7 +79,8 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void exit ()
     {
-        this.setup.exit ();
+        for (final IControllerSetup setup: this.setups)
+            setup.exit ();
     }
 
 
@@ -60,6 +88,48 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void flush ()
     {
-        this.setup.flush ();
+        // Do not start before the initial values of the observed properties were reported
+        if (!this.isRunning)
+        {
+            if (!this.isReady ())
+                return;
+            this.startup ();
+        }
+        for (final IControllerSetup setup: this.setups)
+            setup.flush ();
+    }
+
+
+    /**
+     * Have the models of all setups received their initial values?
+     *
+     * @return True if all models are ready
+     */
+    private boolean isReady ()
+    {
+        for (final IControllerSetup setup: this.setups)
+        {
+            final IModel model = setup.getModel ();
+            if (model != null && !model.isReady ())
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Start the controller, if not already running.
+     */
+    private void startup ()
+    {
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+
+        final long start = System.currentTimeMillis ();
+        for (final IControllerSetup setup: this.setups)
+            setup.startup ();
+        final long end = System.currentTimeMillis ();
+        this.getHost ().println ("Running (waited for the model " + (start - this.initTime) + "ms, startup " + (end - start) + "ms).");
     }
 }
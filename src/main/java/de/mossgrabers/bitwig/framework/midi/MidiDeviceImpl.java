@@ -19,6 +19,7 @@ import com.bitwig.extension.controller.api.ControllerHost;
 public class MidiDeviceImpl implements IMidiAccess
 {
     private ControllerHost host;
+    private final int      portOffset;
 
 
     /**
@@ -27,8 +28,21 @@ public class MidiDeviceImpl implements IMidiAccess
      * @param host The Bitwig host
      */
     public MidiDeviceImpl (final ControllerHost host)
+    {
+        this (host, 0);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The Bitwig host
+     * @param portOffset The offset which is added to all port indices
+     */
+    public MidiDeviceImpl (final ControllerHost host, final int portOffset)
     {
         this.host = host;
+        this.portOffset = portOffset;
     }
 
 
@@ -36,7 +50,7 @@ public class MidiDeviceImpl implements IMidiAccess
     @Override
     public IMidiOutput createOutput ()
     {
-        return new MidiOutputImpl (this.host);
+        return new MidiOutputImpl (this.host, this.portOffset);
     }
 
 
@@ -44,7 +58,7 @@ public class MidiDeviceImpl implements IMidiAccess
     @Override
     public IMidiOutput createOutput (final int index)
     {
-        return new MidiOutputImpl (this.host, index);
+        return new MidiOutputImpl (this.host, this.portOffset + index);
     }
 
 
@@ -60,6 +74,6 @@ public class MidiDeviceImpl implements IMidiAccess
     @Override
     public IMidiInput createInput (final int index, final String name, final String... filters)
     {
-        return new MidiInputImpl (index, this.host, name, filters);
+        return new MidiInputImpl (this.portOffset + index, this.host, name, filters);
     }
 }
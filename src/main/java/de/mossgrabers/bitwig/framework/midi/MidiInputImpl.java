@@ -8,11 +8,17 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExDataCallback;
+import de.mossgrabers.framework.daw.midi.SysexDispatcher;
+import de.mossgrabers.framework.daw.midi.TranslationTableBuffer;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.MidiIn;
 import com.bitwig.extension.controller.api.NoteInput;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * A midi input.
@@ -21,8 +27,16 @@ import com.bitwig.extension.controller.api.NoteInput;
  */
 class MidiInputImpl implements IMidiInput
 {
-    private MidiIn    port;
-    private NoteInput defaultNoteInput;
+    private MidiIn                    port;
+    private NoteInput                 defaultNoteInput;
+    private TranslationTableBuffer    keyTable;
+    private TranslationTableBuffer    velocityTable;
+    private final List<NoteInputImpl> noteInputs      = new ArrayList<> ();
+    private MidiShortCallback         callback;
+    private MidiSysExCallback         sysexCallback;
+    private MidiSysExCallback         sysexCaptureCallback;
+    private final SysexDispatcher     sysexDispatcher = new SysexDispatcher ();
+    private boolean                   isSysexObserved;
 
 
     /**
@@ -45,7 +59,12 @@ class MidiInputImpl implements IMidiInput
         {
             this.defaultNoteInput = this.port.createNoteInput (name, filters);
             this.defaultNoteInput.setShouldConsumeEvents (false);
+            this.keyTable = new TranslationTableBuffer (this.defaultNoteInput::setKeyTranslationTable);
+            this.velocityTable = new TranslationTableBuffer (this.defaultNoteInput::setVelocityTranslationTable);
         }
+
+        // Always observe the port to track the pressed keys for the key translation tables
+        this.port.setMidiCallback (this::handleMidi);
     }
 
 
@@ -53,7 +72,9 @@ class MidiInputImpl implements IMidiInput
     @Override
     public INoteInput createNoteInput (final String name, final String... filters)
     {
-        return new NoteInputImpl (this.port.createNoteInput (name, filters));
+        final NoteInputImpl noteInput = new NoteInputImpl (this.port.createNoteInput (name, filters));
+        this.noteInputs.add (noteInput);
+        return noteInput;
     }
 
 
@@ -61,7 +82,7 @@ class MidiInputImpl implements IMidiInput
     @Override
     public void setMidiCallback (final MidiShortCallback callback)
     {
-        this.port.setMidiCallback (callback::handleMidi);
+        this.callback = callback;
     }
 
 
@@ -69,25 +90,80 @@ class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.sysexCallback = callback;
+        this.observeSysex ();
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setKeyTranslationTable (final Integer [] table)
+    public void addSysexCallback (final int [] prefix, final MidiSysExDataCallback callback)
     {
-        if (this.defaultNoteInput != null)
-            this.defaultNoteInput.setKeyTranslationTable (table);
+        this.sysexDispatcher.addCallback (prefix, callback);
+        this.observeSysex ();
+    }
+
+
+    /**
+     * Register the sysex callback on the port when the first callback is added.
+     */
+    private void observeSysex ()
+    {
+        if (this.isSysexObserved)
+            return;
+        this.isSysexObserved = true;
+        this.port.setSysexCallback (this::receiveSysex);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setVelocityTranslationTable (final Integer [] table)
+    public void setSysexCaptureCallback (final MidiSysExCallback callback)
     {
-        if (this.defaultNoteInput != null)
-            this.defaultNoteInput.setVelocityTranslationTable (table);
+        this.sysexCaptureCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void injectSysex (final String data)
+    {
+        this.handleSysex (data);
+    }
+
+
+    private void receiveSysex (final String data)
+    {
+        if (this.sysexCaptureCallback != null)
+            this.sysexCaptureCallback.handleMidi (data);
+        this.handleSysex (data);
+    }
+
+
+    private void handleSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+        if (this.sysexDispatcher.hasCallbacks ())
+            this.sysexDispatcher.dispatch (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final int [] table)
+    {
+        if (this.keyTable != null)
+            this.keyTable.setTable (table);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final int [] table)
+    {
+        if (this.velocityTable != null)
+            this.velocityTable.setTable (table);
     }
 
 
@@ -98,4 +174,16 @@ class MidiInputImpl implements IMidiInput
         if (this.defaultNoteInput != null)
             this.defaultNoteInput.sendRawMidiEvent (status, data1, data2);
     }
+
+
+    private void handleMidi (final int status, final int data1, final int data2)
+    {
+        if (this.keyTable != null)
+            this.keyTable.trackNote (status, data1, data2);
+        for (final NoteInputImpl noteInput: this.noteInputs)
+            noteInput.trackNote (status, data1, data2);
+
+        if (this.callback != null)
+            this.callback.handleMidi (status, data1, data2);
+    }
 }
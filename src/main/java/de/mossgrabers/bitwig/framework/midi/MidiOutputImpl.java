@@ -17,7 +17,8 @@ import com.bitwig.extension.controller.api.MidiOut;
  */
 class MidiOutputImpl extends AbstractMidiOutputImpl
 {
-    private MidiOut port;
+    private final ControllerHost host;
+    private MidiOut              port;
 
 
     /**
@@ -39,13 +40,14 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
      */
     public MidiOutputImpl (final ControllerHost host, final int portNumber)
     {
+        this.host = host;
         this.port = host.getMidiOutPort (portNumber);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final byte [] data)
+    protected void writeSysex (final byte [] data)
     {
         this.port.sendSysex (data);
     }
@@ -53,7 +55,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final String data)
+    protected void writeSysex (final String data)
     {
         this.port.sendSysex (data);
     }
@@ -61,8 +63,16 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
 
     /** {@inheritDoc} */
     @Override
-    protected void sendMidiShort (final int status, final int data1, final int data2)
+    protected void writeMidiShort (final int status, final int data1, final int data2)
     {
         this.port.sendMidi (status, data1, data2);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scheduleTask (final Runnable task, final long delay)
+    {
+        this.host.scheduleTask (task, delay);
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.midi;
 
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.TranslationTableBuffer;
 
 import com.bitwig.extension.controller.api.NoteInput;
 
@@ -16,7 +17,9 @@ import com.bitwig.extension.controller.api.NoteInput;
  */
 class NoteInputImpl implements INoteInput
 {
-    private final NoteInput noteInput;
+    private final NoteInput              noteInput;
+    private final TranslationTableBuffer keyTable;
+    private final TranslationTableBuffer velocityTable;
 
 
     /**
@@ -28,21 +31,37 @@ class NoteInputImpl implements INoteInput
     {
         this.noteInput = noteInput;
         noteInput.setShouldConsumeEvents (false);
+
+        this.keyTable = new TranslationTableBuffer (noteInput::setKeyTranslationTable);
+        this.velocityTable = new TranslationTableBuffer (noteInput::setVelocityTranslationTable);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setKeyTranslationTable (final Integer [] table)
+    public void setKeyTranslationTable (final int [] table)
     {
-        this.noteInput.setKeyTranslationTable (table);
+        this.keyTable.setTable (table);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setVelocityTranslationTable (final Integer [] table)
+    public void setVelocityTranslationTable (final int [] table)
+    {
+        this.velocityTable.setTable (table);
+    }
+
+
+    /**
+     * Track the received MIDI messages to know about the currently pressed keys.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    void trackNote (final int status, final int data1, final int data2)
     {
-        this.noteInput.setVelocityTranslationTable (table);
+        this.keyTable.trackNote (status, data1, data2);
     }
 }
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscMessage;
@@ -18,18 +19,20 @@ import java.util.List;
  */
 public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
 {
-    private final String       address;
-    private final List<Object> values;
+    private final String                  address;
+    private final List<Object>            values;
+    private final IOpenSoundControlClient sender;
 
 
     /**
      * Constructor.
      *
      * @param message Bitwig implementation of a message
+     * @param sender A connection for replying to the sender of the message, may be null
      */
-    public OpenSoundControlMessageImpl (final OscMessage message)
+    public OpenSoundControlMessageImpl (final OscMessage message, final IOpenSoundControlClient sender)
     {
-        this (message.getAddressPattern (), message.getArguments ());
+        this (message.getAddressPattern (), message.getArguments (), sender);
     }
 
 
@@ -40,9 +43,23 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
      * @param values The values
      */
     public OpenSoundControlMessageImpl (final String address, final List<Object> values)
+    {
+        this (address, values, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values
+     * @param sender A connection for replying to the sender of the message, may be null
+     */
+    public OpenSoundControlMessageImpl (final String address, final List<Object> values, final IOpenSoundControlClient sender)
     {
         this.address = address;
         this.values = values;
+        this.sender = sender;
     }
 
 
@@ -60,4 +77,12 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     {
         return this.values == null ? new Object [0] : this.values.toArray ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient getSender ()
+    {
+        return this.sender;
+    }
 }
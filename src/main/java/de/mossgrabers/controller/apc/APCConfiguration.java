@@ -52,5 +52,11 @@ public class APCConfiguration extends AbstractConfiguration
         this.activateBehaviourOnStopSetting (settingsUI);
         this.activateSelectClipOnLaunchSetting (settingsUI);
         this.activateNewClipLengthSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 }
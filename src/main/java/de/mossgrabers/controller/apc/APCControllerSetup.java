@@ -129,8 +129,8 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
@@ -105,6 +105,12 @@ public class APCminiConfiguration extends AbstractConfiguration
             this.softKeys = value;
             this.notifyObservers (SOFT_KEYS);
         });
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
@@ -95,8 +95,8 @@ public class APCminiControllerSetup extends AbstractControllerSetup<APCminiContr
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
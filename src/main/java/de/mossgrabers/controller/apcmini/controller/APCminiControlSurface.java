@@ -103,15 +103,7 @@ public class APCminiControlSurface extends AbstractControlSurface<APCminiConfigu
 
     /** {@inheritDoc} */
     @Override
-    public void setButton (final int button, final int state)
-    {
-        this.output.sendNote (button, state);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void setButtonEx (final int button, final int channel, final int state)
+    protected void sendButtonState (final int button, final int channel, final int state)
     {
         this.output.sendNoteEx (channel, button, state);
     }
@@ -61,5 +61,11 @@ public class BeatstepConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 }
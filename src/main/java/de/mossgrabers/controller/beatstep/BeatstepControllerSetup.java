@@ -126,11 +126,11 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
         final INoteInput seqNoteInput = input.createNoteInput ("Seq. 1", "90????", "80????");
         if (!this.isPro)
         {
-            final Integer [] table = new Integer [128];
+            final int [] table = new int [128];
             for (int i = 0; i < 128; i++)
             {
                 // Block the Shift key
-                table[i] = Integer.valueOf (i == 7 ? -1 : i);
+                table[i] = i == 7 ? -1 : i;
             }
             seqNoteInput.setKeyTranslationTable (table);
         }
@@ -190,7 +190,7 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (final int button, final int channel, final int state)
+    protected void sendButtonState (final int button, final int channel, final int state)
     {
         this.output.sendCC (button, state);
     }
@@ -416,6 +416,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         });
 
         this.activateKnobSpeedSetting (settingsUI, 6);
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
 
         // Load last configuration
 
@@ -34,10 +34,10 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexDispatcher;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
@@ -62,6 +62,15 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     protected static final int                                                                  SCROLL_RATE               = 6;
     private static final List<Integer>                                                          MODE_IDS                  = new ArrayList<> ();
 
+    /** The first bytes of a MIDI Machine Control command, the device ID may have any value. */
+    private static final int []                                                                 MMC_PREFIX                =
+    {
+        0xF0,
+        0x7F,
+        SysexDispatcher.ANY_VALUE,
+        0x06
+    };
+
     private int                                                                                 movementCounter           = 0;
     private boolean                                                                             isShiftButtonPressed      = false;
 
@@ -121,7 +130,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.playCommand = new PlayCommand<> (this.model, this);
         this.knobSpeedCommand = new ToggleKnobSpeedCommand<> (this.model, this);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexCallback (MMC_PREFIX, this::handleMMC);
     }
 
 
@@ -133,10 +142,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
-    private void handleSysEx (final String dataStr)
+    private void handleMMC (final int [] data, final int length)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        if (data.length != 6 || data[0] != 0xF0 || data[1] != 0x7F || data[3] != 0x06 || data[5] != 0xF7)
+        if (length != 6 || data[5] != 0xF7)
             return;
 
         // This is not (fully) correct but at least supports 16 device IDs (and 7F for ignore)
@@ -2282,7 +2290,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         // Intentionally empty
     }
@@ -105,6 +105,7 @@ public class HUIConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (settingsUI);
         this.activateEnableVUMetersSetting (settingsUI, CATEGORY_HARDWARE_SETUP);
+        this.activateMidiThrottleSetting (settingsUI);
 
         ///////////////////////////
         // Assignable buttons
@@ -121,6 +122,12 @@ public class HUIConfiguration extends AbstractConfiguration
 
         this.activateZoomStateSetting (settingsUI);
         this.activateChannelTouchSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
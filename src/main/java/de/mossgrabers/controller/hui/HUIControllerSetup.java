@@ -95,7 +95,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
     private final int []         vuValuesL                 = new int [8];
     private final int []         vuValuesR                 = new int [8];
-    private final int []         faderValues               = new int [36];
 
 
     /**
@@ -111,7 +110,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
         Arrays.fill (this.vuValuesL, -1);
         Arrays.fill (this.vuValuesR, -1);
-        Arrays.fill (this.faderValues, -1);
 
         this.colorManager = new ColorManager ();
         this.valueChanger = new Relative4ValueChanger (16384, 100, 10);
@@ -123,10 +121,10 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
-
         this.updateButtons ();
         this.updateMode (this.getSurface ().getModeManager ().getActiveOrTempModeId ());
+
+        this.flushSurfaces ();
     }
 
 
@@ -199,6 +197,8 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
                 activeMode.updateDisplay ();
             ((HUIDisplay) surface.getDisplay ()).forceFlush ();
         });
+
+        this.createVuMeterObserver ();
     }
 
 
@@ -514,19 +514,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
             // Update motor fader of channel
             if (hasMotorFaders)
-                this.updateFaders (output, channel, track);
-        }
-    }
-
-
-    private void updateFaders (final IMidiOutput output, final int channel, final ITrack track)
-    {
-        final int value = track.getVolume ();
-        if (value != this.faderValues[channel])
-        {
-            this.faderValues[channel] = value;
-            output.sendCC (channel, value / 128);
-            output.sendCC (0x20 + channel, value % 128);
+                surface.getMotorFaders ().setValue (channel, track.getVolume ());
         }
     }
 
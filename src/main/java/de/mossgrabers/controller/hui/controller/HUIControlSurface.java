@@ -9,6 +9,8 @@ import de.mossgrabers.framework.command.continuous.FaderAbsoluteCommand;
 import de.mossgrabers.framework.command.continuous.KnobRowModeCommand;
 import de.mossgrabers.framework.command.continuous.PlayPositionCommand;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
+import de.mossgrabers.framework.controller.MotorFaders;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -475,6 +477,7 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     private final PlayPositionCommand<HUIControlSurface, HUIConfiguration>     playPositionCommand;
 
     private final int []                                                       faderHiValues            = new int [8];
+    private final MotorFaders                                                  motorFaders;
 
 
     /**
@@ -506,6 +509,12 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
             this.knobCommands[i] = new KnobRowModeCommand<> (i, model, this);
         }
         this.playPositionCommand = new PlayPositionCommand<> (model, this);
+
+        // The motor may move a fader 1/8th per interval
+        this.motorFaders = new MotorFaders (this, 8, 2048, (index, value) -> {
+            this.output.sendCC (index, value / 128);
+            this.output.sendCC (0x20 + index, value % 128);
+        });
     }
 
 
@@ -522,12 +531,11 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
-        // Select the zone
-        this.output.sendCC (0x0C, button / 8);
-        // Turn on / off button
-        this.output.sendCC (0x2C, (value > 0 ? 0x40 : 0x00) + button % 8);
+        // Select the zone and turn on / off the button, both messages must not be merged with the
+        // ones of other buttons
+        this.output.sendOrderedCC (0x0C, button / 8, 0x2C, (value > 0 ? 0x40 : 0x00) + button % 8);
     }
 
 
@@ -543,6 +551,17 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     }
 
 
+    /**
+     * Get the motor faders.
+     *
+     * @return The motor faders
+     */
+    public MotorFaders getMotorFaders ()
+    {
+        return this.motorFaders;
+    }
+
+
     /**
      * Sets the LED ring of the knobs.
      *
@@ -618,6 +637,9 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
             case 0x2F:
                 final boolean isDown = data2 >= 0x40;
                 final int cc = this.zone * 8 + data2 % 8;
+                // The first button of the zones of the channel strips is the fader touch
+                if (this.zone < 8 && data2 % 8 == 0)
+                    this.motorFaders.setTouched (this.zone, isDown);
                 if (this.isButton (cc))
                     this.handleCC (0, cc, isDown ? 127 : 0);
                 break;
@@ -700,6 +722,10 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
         super.scheduledFlush ();
 
         if (this.mainDisplay != null)
+        {
+            final long start = this.profiler.start ();
             this.mainDisplay.flush ();
+            this.profiler.stop (Phase.DISPLAY_FLUSH, start);
+        }
     }
 }
\ No newline at end of file
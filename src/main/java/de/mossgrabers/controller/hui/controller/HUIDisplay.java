@@ -24,20 +24,6 @@ public class HUIDisplay extends AbstractDisplay
 {
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
-    private static final String []   SPACES               =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
     private int                      charactersOfCell;
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
@@ -72,7 +58,7 @@ public class HUIDisplay extends AbstractDisplay
     @Override
     public HUIDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        this.setCellText (row, cell, null, this.charactersOfCell);
         return this;
     }
 
@@ -84,8 +70,8 @@ public class HUIDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.setCellText (row, cell, value, this.charactersOfCell);
+            this.setCellText (row, cell + 1, value, this.charactersOfCell, this.charactersOfCell, this.charactersOfCell);
         }
         else
         {
@@ -100,7 +86,7 @@ public class HUIDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell);
+        this.setCellText (row, column, Integer.toString (value), this.charactersOfCell);
         return this;
     }
 
@@ -111,7 +97,7 @@ public class HUIDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell);
+            this.setCellText (row, column, value, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -169,16 +155,4 @@ public class HUIDisplay extends AbstractDisplay
         // Prevent further sends
         this.executor.shutdown ();
     }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -30,20 +31,6 @@ public class HUIMainDisplay extends AbstractDisplay
         (byte) 0x12
     };
 
-    private static final String []      SPACES               =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
     private int                         charactersOfCell;
 
     private final LatestTaskExecutor [] executors            = new LatestTaskExecutor [2];
@@ -79,7 +66,7 @@ public class HUIMainDisplay extends AbstractDisplay
     @Override
     public HUIMainDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        this.setCellText (row, cell, null, this.charactersOfCell);
         return this;
     }
 
@@ -91,8 +78,8 @@ public class HUIMainDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.setCellText (row, cell, value, this.charactersOfCell);
+            this.setCellText (row, cell + 1, value, this.charactersOfCell, this.charactersOfCell, this.charactersOfCell);
         }
         else
         {
@@ -107,7 +94,7 @@ public class HUIMainDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell);
+        this.setCellText (row, column, Integer.toString (value), this.charactersOfCell);
         return this;
     }
 
@@ -118,7 +105,7 @@ public class HUIMainDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell);
+            this.setCellText (row, column, value, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -186,16 +173,4 @@ public class HUIMainDisplay extends AbstractDisplay
         for (int i = 0; i < 4; i++)
             this.executors[i].shutdown ();
     }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
 }
\ No newline at end of file
@@ -63,6 +63,12 @@ public class Kontrol1Configuration extends AbstractConfiguration
         // Workflow
 
         this.activateEnableVUMetersSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
@@ -170,6 +170,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
         super (host, configuration, colorManager, null, input, new Kontrol1PadGrid (colorManager, usbDevice), KONTROL1_BUTTONS_ALL);
 
         this.usbDevice = usbDevice;
+        this.usbDevice.setFlushProfiler (this.profiler);
         this.shiftButtonId = BUTTON_SHIFT;
     }
 
@@ -202,7 +203,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         this.usbDevice.setButtonLED (button, value);
     }
@@ -304,6 +305,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
      */
     public void updateButtonLEDs ()
     {
+        this.flushButtons ();
         this.usbDevice.updateButtonLEDs ();
     }
 
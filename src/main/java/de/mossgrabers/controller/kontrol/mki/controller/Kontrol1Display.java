@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -18,26 +19,8 @@ import de.mossgrabers.framework.daw.IHost;
  */
 public class Kontrol1Display extends AbstractDisplay
 {
-    private static final String [] SPACES =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
-    private int                    maxParameterValue;
-    private Kontrol1UsbDevice      usbDevice;
+    private int               maxParameterValue;
+    private Kontrol1UsbDevice usbDevice;
 
 
     /**
@@ -104,7 +87,7 @@ public class Kontrol1Display extends AbstractDisplay
     @Override
     public Kontrol1Display clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "        ";
+        this.setCellText (row, cell, null, 8);
         return this;
     }
 
@@ -116,12 +99,12 @@ public class Kontrol1Display extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (9), 8);
+            this.setCellText (row, cell, value, 9);
+            this.setCellText (row, cell + 1, value, 9, 8, 8);
         }
         else
         {
-            this.cells[row * this.noOfCells + cell] = pad (value, 9);
+            this.setCellText (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -141,7 +124,7 @@ public class Kontrol1Display extends AbstractDisplay
     @Override
     public Kontrol1Display setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * this.noOfCells + cell] = pad (value, 8);
+        this.setCellText (row, cell, value, 8);
         return this;
     }
 
@@ -211,13 +194,7 @@ public class Kontrol1Display extends AbstractDisplay
      */
     public static String pad (final String str, final int length)
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + Kontrol1Display.SPACES[diff];
-        return text;
+        return StringUtils.pad (str, length, ' ');
     }
 
 
@@ -0,0 +1,495 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mki.controller;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Encodes the display content of the Kontrol 1 into its 3 HID report segments: the value bars
+ * with the dots and the 2 text rows. The encoded bytes are kept per cell and only cells which
+ * changed are encoded again. A segment needs to be sent only if at least one of its cells changed.
+ * Encoding and filling the report does not allocate any memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Kontrol1DisplayEncoder
+{
+    /** The number of report segments (value bars and dots, text row 1 and 2). */
+    public static final int                    NUM_SEGMENTS              = 3;
+    /** The number of cells (characters) of a segment. */
+    public static final int                    NUM_CELLS                 = 72;
+
+    private static final int                   SEGMENT_SIZE              = 2 * NUM_CELLS;
+
+    private static final byte [] []            UPPER_CHARACTERS          = new byte [] []
+    {
+        {
+            (byte) 207,
+            24
+        },                                                                                         // A
+        {
+            (byte) 63,
+            82
+        },                                                                                         // B
+        {
+            (byte) 243,
+            0
+        },                                                                                         // C
+        {
+            (byte) 63,
+            66
+        },                                                                                         // D
+        {
+            (byte) 243,
+            24
+        },                                                                                         // E
+        {
+            (byte) 195,
+            24
+        },                                                                                         // F
+        {
+            (byte) 251,
+            16
+        },                                                                                         // G
+        {
+            (byte) 204,
+            24
+        },                                                                                         // H
+        {
+            (byte) 51,
+            66
+        },                                                                                         // I
+        {
+            (byte) 31,
+            0
+        },                                                                                         // J
+        {
+            (byte) 192,
+            (byte) 140
+        },                                                                                         // K
+        {
+            (byte) 240,
+            0
+        },                                                                                         // L
+        {
+            (byte) 204,
+            5
+        },                                                                                         // M
+        {
+            (byte) 204,
+            (byte) 129
+        },                                                                                         // N
+        {
+            (byte) 255,
+            0
+        },                                                                                         // O
+        {
+            (byte) 199,
+            24
+        },                                                                                         // P
+        {
+            (byte) 255,
+            (byte) 128
+        },                                                                                         // Q
+        {
+            (byte) 199,
+            (byte) 152
+        },                                                                                         // R
+        {
+            (byte) 187,
+            24
+        },                                                                                         // S
+        {
+            (byte) 3,
+            66
+        },                                                                                         // T
+        {
+            (byte) 252,
+            0
+        },                                                                                         // U
+        {
+            (byte) 192,
+            36
+        },                                                                                         // V
+        {
+            (byte) 204,
+            (byte) 160
+        },                                                                                         // W
+        {
+            (byte) 0,
+            (byte) 165
+        },                                                                                         // X
+        {
+            (byte) 0,
+            69
+        },                                                                                         // Y
+        {
+            (byte) 51,
+            36
+        }                                                                                          // Z
+    };
+
+    private static final byte [] []            LOWER_CHARACTERS          = new byte [] []
+    {
+        {
+            (byte) 207,
+            24
+        },                                                                                         // A
+        {
+            (byte) 248,
+            24
+        },                                                                                         // b
+        {
+            (byte) 112,
+            24
+        },                                                                                         // c
+        {
+            (byte) 124,
+            24
+        },                                                                                         // d
+        {
+            (byte) 243,
+            24
+        },                                                                                         // E
+        {
+            (byte) 193,
+            8
+        },                                                                                         // f
+        {
+            (byte) 251,
+            16
+        },                                                                                         // G
+        {
+            (byte) 200,
+            24
+        },                                                                                         // h
+        {
+            0,
+            64
+        },                                                                                         // i
+        {
+            (byte) 31,
+            0
+        },                                                                                         // J
+        {
+            (byte) 192,
+            (byte) 140
+        },                                                                                         // K
+        {
+            0,
+            66
+        },                                                                                         // l
+        {
+            72,
+            88
+        },                                                                                         // m
+        {
+            64,
+            72
+        },                                                                                         // n
+        {
+            (byte) 120,
+            24
+        },                                                                                         // o
+        {
+            (byte) 199,
+            24
+        },                                                                                         // P
+        {
+            (byte) 255,
+            (byte) 128
+        },                                                                                         // Q
+        {
+            (byte) 199,
+            (byte) 152
+        },                                                                                         // R
+        {
+            (byte) 187,
+            24
+        },                                                                                         // S
+        {
+            (byte) 224,
+            8
+        },                                                                                         // t
+        {
+            (byte) 120,
+            0
+        },                                                                                         // u
+        {
+            64,
+            32
+        },                                                                                         // v
+        {
+            (byte) 120,
+            64
+        },                                                                                         // w
+        {
+            (byte) 0,
+            (byte) 165
+        },                                                                                         // X
+        {
+            (byte) 0,
+            69
+        },                                                                                         // Y
+        {
+            (byte) 51,
+            36
+        }                                                                                          // Z
+    };
+
+    private static final byte [] []            NUMBERS                   = new byte [] []
+    {
+        {
+            (byte) 255,
+            0
+        },
+        {
+            (byte) 12,
+            0
+        },
+        {
+            (byte) 119,
+            24
+        },
+        {
+            (byte) 63,
+            24
+        },
+        {
+            (byte) 140,
+            24
+        },
+        {
+            (byte) 187,
+            24
+        },
+        {
+            (byte) 251,
+            24
+        },
+        {
+            (byte) 15,
+            0
+        },
+        {
+            (byte) 255,
+            24
+        },
+        {
+            (byte) 191,
+            24
+        }
+    };
+
+    private static final byte []               MINUS                     = new byte []
+    {
+        0,
+        (byte) 24
+    };
+
+    private static final byte []               PLUS                      = new byte []
+    {
+        0,
+        (byte) 90
+    };
+
+    private static final byte []               PERCENT                   = new byte []
+    {
+        (byte) 153,
+        (byte) 126
+    };
+
+    private static final byte []               GREATER                   = new byte []
+    {
+        0,
+        (byte) 33
+    };
+
+    private static final byte []               APOSTROPH                 = new byte []
+    {
+        (byte) 128,
+        0
+    };
+
+    private static final byte []               FWD_SLASH                 = new byte []
+    {
+        0,
+        (byte) 36
+    };
+
+    private static final byte []               BWD_SLASH                 = new byte []
+    {
+        0,
+        (byte) 129
+    };
+
+    private static final byte []               EMPTY                     = new byte []
+    {
+        0,
+        0
+    };
+
+    private final byte [] []                   encoded                   = new byte [NUM_SEGMENTS] [SEGMENT_SIZE];
+    private final char [] []                   encodedTexts              = new char [2] [NUM_CELLS];
+    private final boolean []                   dirty                     = new boolean [NUM_SEGMENTS];
+
+
+    /**
+     * Constructor.
+     */
+    public Kontrol1DisplayEncoder ()
+    {
+        // Send all segments at least once to overwrite the content left by a previous session
+        this.invalidate ();
+    }
+
+
+    /**
+     * Mark all segments as dirty, e.g. to resend the whole display after a re-connect.
+     */
+    public void invalidate ()
+    {
+        for (int i = 0; i < NUM_SEGMENTS; i++)
+            this.dirty[i] = true;
+    }
+
+
+    /**
+     * Encode the value bars and the dots. Only cells which differ from the previous encoding are
+     * updated.
+     *
+     * @param bars The 9 value bars with 9 segments each
+     * @param dots The dots of the 2 rows with 72 cells each
+     */
+    public void encodeBarsAndDots (final int [] [] bars, final boolean [] [] dots)
+    {
+        final byte [] segment = this.encoded[0];
+        for (int j = 0; j < NUM_CELLS; j++)
+        {
+            final int col = j / 8;
+            final byte first = (byte) bars[col][j - col * 8];
+
+            final byte second;
+            if (j % 8 == 7)
+                second = (byte) bars[col][8];
+            else if (dots[0][j] && dots[1][j])
+                second = (byte) 255;
+            else if (dots[0][j])
+                second = (byte) 253;
+            else if (dots[1][j])
+                second = (byte) 254;
+            else
+                second = 0;
+
+            this.setCell (0, segment, j, first, second);
+        }
+    }
+
+
+    /**
+     * Encode a text row. Only the characters which changed since the previous call are looked up
+     * and encoded.
+     *
+     * @param row The text row (0-1)
+     * @param text The 72 characters of the row
+     */
+    public void encodeText (final int row, final char [] text)
+    {
+        final char [] previous = this.encodedTexts[row];
+        final byte [] segment = this.encoded[row + 1];
+        for (int j = 0; j < NUM_CELLS; j++)
+        {
+            final char c = text[j];
+            if (c == previous[j])
+                continue;
+            previous[j] = c;
+            final byte [] glyph = getGlyph (c);
+            this.setCell (row + 1, segment, j, glyph[0], glyph[1]);
+        }
+    }
+
+
+    /**
+     * Test if a segment contains changes which are not sent yet.
+     *
+     * @param segment The index of the segment (0-2)
+     * @return True if the segment needs to be sent
+     */
+    public boolean isDirty (final int segment)
+    {
+        return this.dirty[segment];
+    }
+
+
+    /**
+     * Fill the HID report for a segment into the given buffer and clear its dirty flag.
+     *
+     * @param segment The index of the segment (0-2)
+     * @param displayBuffer The buffer of the display report
+     */
+    public void fillReport (final int segment, final ByteBuffer displayBuffer)
+    {
+        displayBuffer.clear ();
+        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put ((byte) segment);
+        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put ((byte) 0x48);
+        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put ((byte) 0x01);
+        displayBuffer.put ((byte) 0x00);
+        displayBuffer.put (this.encoded[segment]);
+        while (displayBuffer.position () < displayBuffer.capacity ())
+            displayBuffer.put ((byte) 0x00);
+
+        this.dirty[segment] = false;
+    }
+
+
+    private void setCell (final int segmentIndex, final byte [] segment, final int cell, final byte first, final byte second)
+    {
+        final int pos = 2 * cell;
+        if (segment[pos] == first && segment[pos + 1] == second)
+            return;
+        segment[pos] = first;
+        segment[pos + 1] = second;
+        this.dirty[segmentIndex] = true;
+    }
+
+
+    private static byte [] getGlyph (final char c)
+    {
+        if (c >= 65 && c <= 90)
+            return UPPER_CHARACTERS[c - 65];
+
+        if (c >= 97 && c <= 122)
+            return LOWER_CHARACTERS[c - 97];
+
+        if (c >= 48 && c <= 57)
+            return NUMBERS[c - 48];
+
+        switch (c)
+        {
+            case '-':
+                return MINUS;
+            case '+':
+                return PLUS;
+            case '%':
+                return PERCENT;
+            case '>':
+                return GREATER;
+            case '\'':
+                return APOSTROPH;
+            case '/':
+                return FWD_SLASH;
+            case '\\':
+                return BWD_SLASH;
+
+            default:
+                return EMPTY;
+        }
+    }
+}
\ No newline at end of file
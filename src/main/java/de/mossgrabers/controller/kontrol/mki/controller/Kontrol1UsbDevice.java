@@ -4,6 +4,8 @@
 
 package de.mossgrabers.controller.kontrol.mki.controller;
 
+import de.mossgrabers.framework.controller.FlushProfiler;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.usb.IHidDevice;
@@ -23,308 +25,6 @@ import java.util.Map;
  */
 public class Kontrol1UsbDevice
 {
-    private static final byte [] []            UPPER_CHARACTERS          = new byte [] []
-    {
-        {
-            (byte) 207,
-            24
-        },                                                                                         // A
-        {
-            (byte) 63,
-            82
-        },                                                                                         // B
-        {
-            (byte) 243,
-            0
-        },                                                                                         // C
-        {
-            (byte) 63,
-            66
-        },                                                                                         // D
-        {
-            (byte) 243,
-            24
-        },                                                                                         // E
-        {
-            (byte) 195,
-            24
-        },                                                                                         // F
-        {
-            (byte) 251,
-            16
-        },                                                                                         // G
-        {
-            (byte) 204,
-            24
-        },                                                                                         // H
-        {
-            (byte) 51,
-            66
-        },                                                                                         // I
-        {
-            (byte) 31,
-            0
-        },                                                                                         // J
-        {
-            (byte) 192,
-            (byte) 140
-        },                                                                                         // K
-        {
-            (byte) 240,
-            0
-        },                                                                                         // L
-        {
-            (byte) 204,
-            5
-        },                                                                                         // M
-        {
-            (byte) 204,
-            (byte) 129
-        },                                                                                         // N
-        {
-            (byte) 255,
-            0
-        },                                                                                         // O
-        {
-            (byte) 199,
-            24
-        },                                                                                         // P
-        {
-            (byte) 255,
-            (byte) 128
-        },                                                                                         // Q
-        {
-            (byte) 199,
-            (byte) 152
-        },                                                                                         // R
-        {
-            (byte) 187,
-            24
-        },                                                                                         // S
-        {
-            (byte) 3,
-            66
-        },                                                                                         // T
-        {
-            (byte) 252,
-            0
-        },                                                                                         // U
-        {
-            (byte) 192,
-            36
-        },                                                                                         // V
-        {
-            (byte) 204,
-            (byte) 160
-        },                                                                                         // W
-        {
-            (byte) 0,
-            (byte) 165
-        },                                                                                         // X
-        {
-            (byte) 0,
-            69
-        },                                                                                         // Y
-        {
-            (byte) 51,
-            36
-        }                                                                                          // Z
-    };
-
-    private static final byte [] []            LOWER_CHARACTERS          = new byte [] []
-    {
-        {
-            (byte) 207,
-            24
-        },                                                                                         // A
-        {
-            (byte) 248,
-            24
-        },                                                                                         // b
-        {
-            (byte) 112,
-            24
-        },                                                                                         // c
-        {
-            (byte) 124,
-            24
-        },                                                                                         // d
-        {
-            (byte) 243,
-            24
-        },                                                                                         // E
-        {
-            (byte) 193,
-            8
-        },                                                                                         // f
-        {
-            (byte) 251,
-            16
-        },                                                                                         // G
-        {
-            (byte) 200,
-            24
-        },                                                                                         // h
-        {
-            0,
-            64
-        },                                                                                         // i
-        {
-            (byte) 31,
-            0
-        },                                                                                         // J
-        {
-            (byte) 192,
-            (byte) 140
-        },                                                                                         // K
-        {
-            0,
-            66
-        },                                                                                         // l
-        {
-            72,
-            88
-        },                                                                                         // m
-        {
-            64,
-            72
-        },                                                                                         // n
-        {
-            (byte) 120,
-            24
-        },                                                                                         // o
-        {
-            (byte) 199,
-            24
-        },                                                                                         // P
-        {
-            (byte) 255,
-            (byte) 128
-        },                                                                                         // Q
-        {
-            (byte) 199,
-            (byte) 152
-        },                                                                                         // R
-        {
-            (byte) 187,
-            24
-        },                                                                                         // S
-        {
-            (byte) 224,
-            8
-        },                                                                                         // t
-        {
-            (byte) 120,
-            0
-        },                                                                                         // u
-        {
-            64,
-            32
-        },                                                                                         // v
-        {
-            (byte) 120,
-            64
-        },                                                                                         // w
-        {
-            (byte) 0,
-            (byte) 165
-        },                                                                                         // X
-        {
-            (byte) 0,
-            69
-        },                                                                                         // Y
-        {
-            (byte) 51,
-            36
-        }                                                                                          // Z
-    };
-
-    private static final byte [] []            NUMBERS                   = new byte [] []
-    {
-        {
-            (byte) 255,
-            0
-        },
-        {
-            (byte) 12,
-            0
-        },
-        {
-            (byte) 119,
-            24
-        },
-        {
-            (byte) 63,
-            24
-        },
-        {
-            (byte) 140,
-            24
-        },
-        {
-            (byte) 187,
-            24
-        },
-        {
-            (byte) 251,
-            24
-        },
-        {
-            (byte) 15,
-            0
-        },
-        {
-            (byte) 255,
-            24
-        },
-        {
-            (byte) 191,
-            24
-        }
-    };
-
-    private static final byte []               MINUS                     = new byte []
-    {
-        0,
-        (byte) 24
-    };
-
-    private static final byte []               PLUS                      = new byte []
-    {
-        0,
-        (byte) 90
-    };
-
-    private static final byte []               PERCENT                   = new byte []
-    {
-        (byte) 153,
-        (byte) 126
-    };
-
-    private static final byte []               GREATER                   = new byte []
-    {
-        0,
-        (byte) 33
-    };
-
-    private static final byte []               APOSTROPH                 = new byte []
-    {
-        (byte) 128,
-        0
-    };
-
-    private static final byte []               FWD_SLASH                 = new byte []
-    {
-        0,
-        (byte) 36
-    };
-
-    private static final byte []               BWD_SLASH                 = new byte []
-    {
-        0,
-        (byte) 129
-    };
-
     private static final int []                BYTE_0                    =
     {
         Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
@@ -409,6 +109,7 @@ public class Kontrol1UsbDevice
 
     private final int                          sizeKeyLEDs;
     private final IMemoryBlock                 displayBlock;
+    private final ByteBuffer                   displayBuffer;
     private final IMemoryBlock                 ledBlock;
     private final IMemoryBlock                 keyLedBlock;
     private final IMemoryBlock                 initBlock;
@@ -421,6 +122,7 @@ public class Kontrol1UsbDevice
     private IHidDevice                         hidDevice;
 
     private UIChangeCallback                   callback;
+    private FlushProfiler                      profiler;
 
     private int                                mainEncoderValue;
     private int []                             encoderValues             = new int [8];
@@ -435,9 +137,7 @@ public class Kontrol1UsbDevice
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
     private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
-
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final Kontrol1DisplayEncoder       displayEncoder            = new Kontrol1DisplayEncoder ();
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -495,12 +195,16 @@ public class Kontrol1UsbDevice
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
 
         this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
+        this.displayBuffer = this.displayBlock.createByteBuffer ();
         this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
         this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
         this.initBlock = host.createMemoryBlock (2);
 
         // To send black LEDs on startup
         this.oldKeyColors[0] = -1;
+
+        // Disabled until the profiler of the surface is set
+        this.profiler = new FlushProfiler (host, "Kontrol 1 USB");
     }
 
 
@@ -526,6 +230,17 @@ public class Kontrol1UsbDevice
     }
 
 
+    /**
+     * Set the profiler which measures the time spent for sending the data to the device.
+     *
+     * @param profiler The profiler
+     */
+    public void setFlushProfiler (final FlushProfiler profiler)
+    {
+        this.profiler = profiler;
+    }
+
+
     /**
      * Send the initialization message to the device.
      */
@@ -540,6 +255,11 @@ public class Kontrol1UsbDevice
             padBuffer (buffer);
             this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
         }
+
+        synchronized (this.displayBlock)
+        {
+            this.displayEncoder.invalidate ();
+        }
     }
 
 
@@ -654,63 +374,30 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send all display data to the device.
+     * Send the display data to the device. Only the report segments which contain changes are
+     * sent.
      */
     public void sendDisplayData ()
     {
         if (this.hidDevice == null)
             return;
 
+        final long start = this.profiler.start ();
         synchronized (this.displayBlock)
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
-            for (int j = 0; j < 72; j++)
-            {
-                final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
-
-                if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
-                else
-                {
-                    if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
-                    else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
-                    else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
-                    else
-                        displayBuffer.put ((byte) 0);
-                }
-            }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
+            this.displayEncoder.encodeBarsAndDots (this.bars, this.dots);
+            this.displayEncoder.encodeText (0, this.texts[0]);
+            this.displayEncoder.encodeText (1, this.texts[1]);
 
-            if (!Arrays.equals (this.line0, l0))
+            for (int segment = 0; segment < Kontrol1DisplayEncoder.NUM_SEGMENTS; segment++)
             {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
+                if (!this.displayEncoder.isDirty (segment))
+                    continue;
+                this.displayEncoder.fillReport (segment, this.displayBuffer);
                 this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
             }
-
-            for (int row = 1; row < 3; row++)
-            {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
-
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
-
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
-            }
         }
+        this.profiler.stop (Phase.USB, start);
     }
 
 
@@ -760,7 +447,9 @@ public class Kontrol1UsbDevice
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
             padBuffer (ledBuffer);
+            final long start = this.profiler.start ();
             this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.profiler.stop (Phase.USB, start);
         }
     }
 
@@ -806,31 +495,13 @@ public class Kontrol1UsbDevice
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
+            final long start = this.profiler.start ();
             this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.profiler.stop (Phase.USB, start);
         }
     }
 
 
-    /**
-     * Fill the display buffer with the header data
-     *
-     * @param displayBuffer The display buffer to which to add the header
-     * @param row The row number (0-3)
-     */
-    private static void fillHeader (final ByteBuffer displayBuffer, final int row)
-    {
-        displayBuffer.clear ();
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) row);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x48);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x01);
-        displayBuffer.put ((byte) 0x00);
-    }
-
-
     /**
      * Process the received HID message.
      *
@@ -898,46 +569,6 @@ public class Kontrol1UsbDevice
     }
 
 
-    private byte [] getCharacter (final int row, final int index)
-    {
-        final char c = this.texts[row][index];
-
-        if (c >= 65 && c <= 90)
-            return UPPER_CHARACTERS[c - 65];
-
-        if (c >= 97 && c <= 122)
-            return LOWER_CHARACTERS[c - 97];
-
-        if (c >= 48 && c <= 57)
-            return NUMBERS[c - 48];
-
-        switch (c)
-        {
-            case '-':
-                return MINUS;
-            case '+':
-                return PLUS;
-            case '%':
-                return PERCENT;
-            case '>':
-                return GREATER;
-            case '\'':
-                return APOSTROPH;
-            case '/':
-                return FWD_SLASH;
-            case '\\':
-                return BWD_SLASH;
-
-            default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
-        }
-    }
-
-
     private void testByteForButtons (final byte b, final int [] buttons)
     {
         if (this.callback == null)
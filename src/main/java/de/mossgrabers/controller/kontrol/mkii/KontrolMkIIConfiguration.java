@@ -111,6 +111,12 @@ public class KontrolMkIIConfiguration extends AbstractConfiguration
         // Workflow
 
         this.activateNewClipLengthSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
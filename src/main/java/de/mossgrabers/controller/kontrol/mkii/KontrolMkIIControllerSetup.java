@@ -111,6 +111,7 @@ public class KontrolMkIIControllerSetup extends AbstractControllerSetup<KontrolM
         {
             this.updateButtons ();
             this.updateData ();
+            this.flushSurfaces ();
         }
     }
 
@@ -138,6 +139,9 @@ public class KontrolMkIIControllerSetup extends AbstractControllerSetup<KontrolM
         ms.setNumDrumPadLayers (0);
         ms.setNumMarkers (0);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
+
+        // The track VU meters are always sent to the device
+        this.model.subscribeVuMeters (true);
     }
 
 
@@ -229,7 +229,7 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         this.sendCommand (button, value);
     }
@@ -119,8 +119,8 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
@@ -137,6 +137,8 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     protected void createModel ()
     {
         final ModelSetup ms = new ModelSetup ();
+        // The birds eye grid shows 8 x 8 pages of 8 x 8 clips
+        ms.setOccupancySize (64, 64);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.addSelectionObserver ( (index, isSelected) -> this.handleTrackChange (isSelected));
@@ -241,7 +241,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         this.sessionButtonId = this.isPro ? LAUNCHPAD_PRO_BUTTON_SESSION : LAUNCHPAD_MKII_BUTTON_SESSION;
         this.deviceButtonId = this.isPro ? LAUNCHPAD_PRO_BUTTON_DEVICE : LAUNCHPAD_MKII_BUTTON_DEVICE;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexCallback (LAUNCHPAD_VERSION_INQUIRY_RESPONSE, this::handleVersionInquiryResponse);
         this.output.sendSysex (LAUNCHPAD_VERSION_INQUIRY);
     }
 
@@ -355,7 +355,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (final int button, final int channel, final int state)
+    protected void sendButtonState (final int button, final int channel, final int state)
     {
         if (!this.isPro && (button == LAUNCHPAD_BUTTON_SCENE1 || button == LAUNCHPAD_BUTTON_SCENE2 || button == LAUNCHPAD_BUTTON_SCENE3 || button == LAUNCHPAD_BUTTON_SCENE4 || button == LAUNCHPAD_BUTTON_SCENE5 || button == LAUNCHPAD_BUTTON_SCENE6 || button == LAUNCHPAD_BUTTON_SCENE7 || button == LAUNCHPAD_BUTTON_SCENE8))
             this.output.sendNote (button, state);
@@ -427,37 +427,20 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleVersionInquiryResponse (final int [] resultData, final int length)
     {
-        final int [] resultData = StringUtils.fromHexStr (data);
+        // Returns the current bootloader and firmware versions and size of bootloader in KB
+        // f0 00 20 29 00 70 - 00 - 00 01 05 04 - 00 - 00 01 07 03 - 19 01 - f7
+        if (length < 16)
+            return;
 
-        if (compareInts (LAUNCHPAD_VERSION_INQUIRY_RESPONSE, resultData, LAUNCHPAD_VERSION_INQUIRY_RESPONSE.length))
-        {
-            // Returns the current bootloader and firmware versions and size of bootloader in KB
-            // f0 00 20 29 00 70 - 00 - 00 01 05 04 - 00 - 00 01 07 03 - 19 01 - f7
-
-            final int bootloaderVersion = resultData[8] * 100 + resultData[9] * 10 + resultData[10];
-            final int firmwareVersion = resultData[13] * 100 + resultData[14] * 10 + resultData[15];
-            this.host.println ("Bootloader: " + bootloaderVersion);
-            this.host.println ("Firmware: " + firmwareVersion);
-        }
+        final int bootloaderVersion = resultData[8] * 100 + resultData[9] * 10 + resultData[10];
+        final int firmwareVersion = resultData[13] * 100 + resultData[14] * 10 + resultData[15];
+        this.host.println ("Bootloader: " + bootloaderVersion);
+        this.host.println ("Firmware: " + firmwareVersion);
 
         // Further received data, which is not used:
         // - Mode status: f000202902102dxxf7
         // - Standalone Layout status: f000202902102fyyf7
     }
-
-
-    private static boolean compareInts (final int [] array1, final int [] array2, final int length)
-    {
-        if (array1.length < length || array2.length < length)
-            return false;
-
-        for (int i = 0; i < length; i++)
-        {
-            if (array1[i] != array2[i])
-                return false;
-        }
-        return true;
-    }
 }
\ No newline at end of file
@@ -95,6 +95,12 @@ public class MaschineMikroMk3Configuration extends AbstractConfiguration
         this.activateBehaviourOnStopSetting (settingsUI);
         this.activateSelectClipOnLaunchSetting (settingsUI);
         this.activateNewClipLengthSetting (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
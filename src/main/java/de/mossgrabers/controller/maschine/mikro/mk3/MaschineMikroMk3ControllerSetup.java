@@ -119,8 +119,8 @@ public class MaschineMikroMk3ControllerSetup extends AbstractControllerSetup<Mas
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
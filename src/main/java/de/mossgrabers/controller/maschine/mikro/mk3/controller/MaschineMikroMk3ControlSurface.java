@@ -165,15 +165,7 @@ public class MaschineMikroMk3ControlSurface extends AbstractControlSurface<Masch
 
     /** {@inheritDoc} */
     @Override
-    public void setButton (final int button, final int state)
-    {
-        this.output.sendCC (button, state);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void setButtonEx (final int button, final int channel, final int state)
+    protected void sendButtonState (final int button, final int channel, final int state)
     {
         this.output.sendCCEx (channel, button, state);
     }
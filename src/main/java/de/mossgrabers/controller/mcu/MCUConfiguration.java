@@ -151,6 +151,7 @@ public class MCUConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (settingsUI);
         this.activateEnableVUMetersSetting (settingsUI, CATEGORY_HARDWARE_SETUP);
+        this.activateMidiThrottleSetting (settingsUI);
 
         ///////////////////////////
         // Assignable buttons
@@ -176,11 +177,18 @@ public class MCUConfiguration extends AbstractConfiguration
         this.activateZoomStateSetting (settingsUI);
         this.activateDisplayTempoOrTicksSetting (settingsUI);
         this.activateChannelTouchSetting (settingsUI);
+        this.activateKnobAccelerationSetting (settingsUI);
 
         ///////////////////////////
         // Browser
 
         this.activateBrowserSettings (settingsUI);
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
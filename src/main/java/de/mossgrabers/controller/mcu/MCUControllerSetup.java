@@ -153,10 +153,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     }
 
-    private final int [] masterVuValues   = new int [2];
-    private int          masterFaderValue = -1;
-    private final int [] vuValues         = new int [36];
-    private final int [] faderValues      = new int [36];
+    private final int [] masterVuValues = new int [2];
+    private final int [] vuValues       = new int [36];
     private final int    numMCUDevices;
 
 
@@ -175,11 +173,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         this.numMCUDevices = numMCUDevices;
 
         Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
         Arrays.fill (this.masterVuValues, -1);
 
         this.colorManager = new ColorManager ();
-        this.valueChanger = new Relative2ValueChanger (16241 + 1, 100, 10);
+        this.valueChanger = new Relative2ValueChanger (16384, 100, 10);
         this.configuration = new MCUConfiguration (host, this.valueChanger);
     }
 
@@ -188,10 +185,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
-
         this.updateButtons ();
         this.updateMode (this.getSurface ().getModeManager ().getActiveOrTempModeId ());
+
+        this.flushSurfaces ();
     }
 
 
@@ -302,6 +299,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 ((MCUDisplay) surface.getDisplay ()).forceFlush ();
             }
         });
+
+        this.configuration.addSettingObserver (AbstractConfiguration.KNOB_ACCELERATION, () -> this.valueChanger.getAcceleration ().setMaxFactor (this.configuration.getKnobAcceleration ()));
+
+        this.createVuMeterObserver ();
     }
 
 
@@ -627,7 +628,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
                 // Update motor fader of channel
                 if (hasMotorFaders)
-                    this.updateFaders (output, i, channel, track);
+                    surface.getMotorFaders ().setValue (i, this.getFaderValue (i, channel, track));
             }
         }
 
@@ -660,16 +661,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         if (hasMotorFaders)
         {
             final int volume = surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : masterTrack.getVolume ();
-            if (volume != this.masterFaderValue)
-            {
-                this.masterFaderValue = volume;
-                output.sendPitchbend (8, volume % 127, volume / 127);
-            }
+            surface.getMotorFaders ().setValue (8, volume);
         }
     }
 
 
-    private void updateFaders (final IMidiOutput output, final int index, final int channel, final ITrack track)
+    private int getFaderValue (final int index, final int channel, final ITrack track)
     {
         int value = track.getVolume ();
 
@@ -733,11 +730,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 value = this.model.getCursorDevice ().getParameterBank ().getItem (channel).getValue ();
         }
 
-        if (value != this.faderValues[channel])
-        {
-            this.faderValues[channel] = value;
-            output.sendPitchbend (index, value % 127, value / 127);
-        }
+        return value;
     }
 
 
@@ -6,6 +6,8 @@ package de.mossgrabers.controller.mcu.controller;
 
 import de.mossgrabers.controller.mcu.MCUConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
+import de.mossgrabers.framework.controller.MotorFaders;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -314,6 +316,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     private MCUSegmentDisplay       segmentDisplay;
     private int                     activeVuMode             = VUMODE_LED;
     private int []                  knobValues               = new int [8];
+    private final MotorFaders       motorFaders;
 
     private final int               extenderOffset;
     private boolean                 isMainDevice;
@@ -339,6 +342,8 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         this.surfaces = surfaces;
         this.extenderOffset = extenderOffset;
         this.isMainDevice = isMainDevice;
+        if (!isMainDevice)
+            this.capture.setFileSuffix ("-extender" + extenderOffset / 8);
 
         this.shiftButtonId = MCU_SHIFT;
         this.selectButtonId = MCU_OPTION;
@@ -348,6 +353,9 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         this.downButtonId = MCU_ARROW_DOWN;
 
         Arrays.fill (this.knobValues, -1);
+
+        // 8 channel faders and the master fader, the motor may move a fader 1/8th per interval
+        this.motorFaders = new MotorFaders (this, 9, 2048, (index, value) -> this.output.sendPitchbend (index, value % 128, value / 128));
     }
 
 
@@ -374,7 +382,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         this.output.sendNoteEx (channel, button, value);
     }
@@ -392,6 +400,17 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     }
 
 
+    /**
+     * Get the motor faders (8 channels and master).
+     *
+     * @return The motor faders
+     */
+    public MotorFaders getMotorFaders ()
+    {
+        return this.motorFaders;
+    }
+
+
     /**
      * Sets the LED ring of the knobs.
      *
@@ -424,6 +443,8 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             // Note on/off
             case 0x80:
             case 0x90:
+                if (data1 >= MCU_FADER_TOUCH1 && data1 <= MCU_FADER_MASTER)
+                    this.motorFaders.setTouched (data1 - MCU_FADER_TOUCH1, code == 0x90 && data2 > 0);
                 // Reroute all notes to CC buttons
                 this.handleCC (0, data1, data2);
                 break;
@@ -501,7 +522,11 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     {
         super.scheduledFlush ();
         if (this.secondDisplay != null)
+        {
+            final long start = this.profiler.start ();
             this.secondDisplay.flush ();
+            this.profiler.stop (Phase.DISPLAY_FLUSH, start);
+        }
     }
 
 
@@ -23,20 +23,6 @@ public class MCUDisplay extends AbstractDisplay
     private static final String         SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
     private static final String         SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
 
-    private static final String []      SPACES                =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
     private boolean                     isFirst;
     private int                         charactersOfCell;
     private boolean                     hasMaster;
@@ -80,7 +66,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public MCUDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        this.setCellText (row, cell, null, this.charactersOfCell);
         return this;
     }
 
@@ -92,8 +78,8 @@ public class MCUDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.setCellText (row, cell, value, this.charactersOfCell);
+            this.setCellText (row, cell + 1, value, this.charactersOfCell, this.charactersOfCell, this.charactersOfCell);
         }
         else
         {
@@ -108,7 +94,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell - 1) + " ";
+        this.setCellText (row, column, Integer.toString (value), this.charactersOfCell - 1, this.charactersOfCell);
         return this;
     }
 
@@ -119,7 +105,7 @@ public class MCUDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell - 1) + " ";
+            this.setCellText (row, column, value, this.charactersOfCell - 1, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -191,16 +177,4 @@ public class MCUDisplay extends AbstractDisplay
         for (int i = 0; i < 4; i++)
             this.executors[i].shutdown ();
     }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
 }
\ No newline at end of file
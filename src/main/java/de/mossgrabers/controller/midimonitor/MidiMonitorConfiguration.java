@@ -19,9 +19,11 @@ import de.mossgrabers.framework.daw.IHost;
 public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system realtime. */
-    public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    public static final Integer     FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
 
-    private boolean             isFilterSystemRealtimeOn = false;
+    private static final String     CATEGORY_CAPTURE         = "Capture";
+
+    private boolean                 isFilterSystemRealtimeOn = false;
 
 
     /**
@@ -45,6 +47,11 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.isFilterSystemRealtimeOn = "On".equals (value);
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
+
+        ///////////////////////////////////////////////
+        // Capture
+
+        this.activateCaptureSettings (settingsUI, CATEGORY_CAPTURE);
     }
 
 
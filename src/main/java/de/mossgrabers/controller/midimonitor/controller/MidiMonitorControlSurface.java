@@ -301,7 +301,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         // Intentionally empty
     }
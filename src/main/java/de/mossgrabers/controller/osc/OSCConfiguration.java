@@ -11,6 +11,10 @@ import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -30,6 +34,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     public static final Integer SEND_PORT        = Integer.valueOf (52);
     /** ID for value resolution setting. */
     public static final Integer VALUE_RESOLUTION = Integer.valueOf (53);
+    /** ID for additional send hosts setting. */
+    public static final Integer ADDITIONAL_HOSTS = Integer.valueOf (56);
 
     /** The resolution for values. */
     public enum ValueResolution
@@ -53,6 +59,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
+    private String                 additionalHosts          = "";
 
 
     /**
@@ -94,6 +101,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        final IStringSetting additionalHostsSetting = settingsUI.getStringSetting ("Additional hosts to send to (host:port, ...)", CATEGORY_SETUP, 100, "");
+        additionalHostsSetting.addValueObserver (value -> {
+            this.additionalHosts = value;
+            this.notifyObservers (ADDITIONAL_HOSTS);
+        });
+
         final IEnumSetting valueResolutionSetting = settingsUI.getEnumSetting ("Value resolution", CATEGORY_SETUP, VALUE_RESOLUTION_OPTIONS, VALUE_RESOLUTION_OPTIONS[0]);
         valueResolutionSetting.addValueObserver (value -> {
             if (VALUE_RESOLUTION_OPTIONS[0].equals (value))
@@ -106,6 +119,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
             this.notifyObservers (VALUE_RESOLUTION);
         });
 
+        this.activateOSCUpdateIntervals (settingsUI, CATEGORY_SETUP);
+
         ///////////////////////////
         // Accent
 
@@ -121,6 +136,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         // Debug
 
         this.activateOSCLogging (settingsUI);
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
@@ -166,4 +183,30 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.valueResolution;
     }
+
+
+    /**
+     * Get the additional hosts and ports to which the extension sends OSC messages.
+     *
+     * @return The hosts and ports, entries without a valid port are ignored
+     */
+    public List<Pair<String, Integer>> getAdditionalHosts ()
+    {
+        final List<Pair<String, Integer>> hosts = new ArrayList<> ();
+        for (final String entry: this.additionalHosts.split (","))
+        {
+            final String [] parts = entry.trim ().split (":");
+            if (parts.length != 2 || parts[0].isEmpty ())
+                continue;
+            try
+            {
+                hosts.add (new Pair<> (parts[0], Integer.valueOf (parts[1])));
+            }
+            catch (final NumberFormatException ex)
+            {
+                // Ignore entries without a valid port
+            }
+        }
+        return hosts;
+    }
 }
@@ -29,7 +29,7 @@ public class OSCControlSurface extends AbstractControlSurface<OSCConfiguration>
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         // Intentionally empty
     }
@@ -17,10 +17,11 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.daw.midi.MidiCapture;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.Pair;
 
 import java.io.IOException;
 
@@ -78,6 +79,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFlatTrackList (false);
         ms.setNumMarkers (8);
+        ms.setOccupancySize (64, 256);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
     }
 
@@ -124,6 +126,8 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
                     break;
             }
         });
+
+        this.createVuMeterObserver ();
     }
 
 
@@ -139,12 +143,25 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.keyManager = new KeyManager (this.model, surface.getPadGrid ());
 
         // Send OSC messages
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.keyManager, this.configuration);
-
-        // Receive OSC messages
+        this.writer = new OSCWriter (this.host, this.model, this.keyManager, this.configuration);
+        final String sendHost = this.configuration.getSendHost ();
+        final int sendPort = this.configuration.getSendPort ();
+        this.writer.addClient (sendHost + ":" + sendPort, this.host.connectToOSCServer (sendHost, sendPort));
+        for (final Pair<String, Integer> additionalHost: this.configuration.getAdditionalHosts ())
+        {
+            final String hostName = additionalHost.getKey ();
+            final int port = additionalHost.getValue ().intValue ();
+            this.writer.addClient (hostName + ":" + port, this.host.connectToOSCServer (hostName, port));
+        }
+
+        // Receive OSC messages, senders can register to receive all messages as well
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
-        this.oscServer = this.host.createOSCServer (parser);
+        final MidiCapture capture = surface.getMidiCapture ();
+        capture.setOscCallback (parser);
+        this.oscServer = this.host.createOSCServer (message -> {
+            capture.recordOSC (message);
+            parser.handle (message);
+        });
     }
 
 
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.IClipOccupancy;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDeviceBank;
 import de.mossgrabers.framework.daw.IHost;
@@ -29,6 +30,7 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
@@ -57,6 +59,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
     private final OSCControlSurface surface;
     private final Display           display;
     private final KeyManager        keyManager;
+    private boolean                 isOccupancySubscribed;
 
 
     /**
@@ -102,7 +105,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
         if (this.parseTransportCommands (command, oscParts, value, (int) numValue))
             return;
 
-        if (this.parseGlobalCommands (command))
+        if (this.parseGlobalCommands (command, oscParts, value, message.getSender ()))
             return;
 
         if (this.parsePanelCommands (command, oscParts, value == null ? null : value.toString ()))
@@ -188,6 +191,15 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     case "create":
                         this.model.getProject ().createSceneFromPlayingLauncherClips ();
                         break;
+                    case "content":
+                        if (oscParts.isEmpty ())
+                        {
+                            this.host.error ("Missing Scene content subcommand.");
+                            return;
+                        }
+                        if (value == null || numValue > 0)
+                            this.scrollToSceneWithContent (sceneBank, "+".equals (oscParts.get (0)));
+                        break;
                     default:
                         if (oscParts.isEmpty ())
                         {
@@ -277,7 +289,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
             //
 
             case "browser":
-                this.parseBrowser (oscParts);
+                this.parseBrowser (oscParts, value);
                 break;
 
             //
@@ -477,12 +489,32 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    private boolean parseGlobalCommands (final String command)
+    private boolean parseGlobalCommands (final String command, final LinkedList<String> parts, final Object value, final IOpenSoundControlClient sender)
     {
         switch (command)
         {
+            case "client":
+                // Register the sender with the address on which it receives messages, e.g.
+                // /client "192.168.1.10:9000", must be repeated at least every minute
+                if (value != null)
+                    this.writer.registerClient (value.toString (), sender);
+                return true;
+
             case "refresh":
-                this.writer.flush (true);
+                // Only resend to the given client, e.g. /refresh/2
+                if (parts.isEmpty ())
+                    this.writer.flush (true);
+                else
+                {
+                    try
+                    {
+                        this.writer.resync (Integer.parseInt (parts.removeFirst ()) - 1);
+                    }
+                    catch (final NumberFormatException ex)
+                    {
+                        this.host.println ("Unknown client number for refresh.");
+                    }
+                }
                 return true;
 
             case "undo":
@@ -614,6 +646,32 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Scroll the scene bank to the next or previous scene which contains at least one clip.
+     *
+     * @param sceneBank The scene bank to scroll
+     * @param forward True to search forwards otherwise backwards
+     */
+    private void scrollToSceneWithContent (final ISceneBank sceneBank, final boolean forward)
+    {
+        final IClipOccupancy occupancy = this.model.getClipOccupancy ();
+        if (occupancy == null)
+            return;
+
+        // Observe the clips from the first search on, which only finds the clips that are already
+        // reported
+        if (!this.isOccupancySubscribed)
+        {
+            this.model.getSubscriptionManager ().subscribe (Collections.singletonList (occupancy));
+            this.isOccupancySubscribed = true;
+        }
+        final int position = sceneBank.getScrollPosition ();
+        final int scene = forward ? occupancy.findNextScene (position) : occupancy.findPreviousScene (position);
+        if (scene >= 0)
+            sceneBank.scrollTo (scene);
+    }
+
+
     private void parseTrackCommands (final LinkedList<String> oscParts, final Object value, final double numValue)
     {
         if (oscParts.isEmpty ())
@@ -1333,7 +1391,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    private void parseBrowser (final LinkedList<String> parts)
+    private void parseBrowser (final LinkedList<String> parts, final Object value)
     {
         if (parts.isEmpty ())
         {
@@ -1405,6 +1463,8 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     browser.selectPreviousFilterItem (column);
                 else if (PART_RESET.equals (cmd))
                     browser.getFilterColumn (column).resetFilter ();
+                else if ("find".equals (cmd) && value != null)
+                    browser.getFilterColumn (column).selectItem (value.toString ());
                 break;
 
             case "result":
@@ -1417,6 +1477,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     browser.selectPreviousResult ();
                 break;
 
+            case "find":
+                if (browser.isActive () && value != null)
+                    browser.selectResult (value.toString ());
+                break;
+
             default:
                 this.host.println ("Unknown Browser Command: " + command);
                 break;
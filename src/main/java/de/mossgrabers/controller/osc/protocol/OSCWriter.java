@@ -38,7 +38,6 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
@@ -58,13 +57,12 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param keyManager The model
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final KeyManager keyManager, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final KeyManager keyManager, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, configuration);
         this.keyManager = keyManager;
     }
 
@@ -196,6 +194,18 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected Priority getPriority (final String address)
+    {
+        if (address.endsWith ("vu") || address.endsWith ("modulatedValue") || "/time/str".equals (address) || "/beat/str".equals (address))
+            return Priority.REALTIME;
+        if (address.endsWith ("name") || address.endsWith ("color") || address.startsWith ("/browser/"))
+            return Priority.BULK;
+        return Priority.STATE;
+    }
+
+
     /**
      * Flush all data of a marker.
      *
@@ -319,6 +319,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         this.activateStopAutomationOnKnobReleaseSetting (settingsUI);
         this.activateNewClipLengthSetting (settingsUI);
         this.activateKnobSpeedSetting (settingsUI, 10);
+        this.activateKnobAccelerationSetting (settingsUI);
 
         ///////////////////////////
         // Ribbon
@@ -350,6 +351,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         // Debugging
 
         this.activateDebugSettings (settingsUI);
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
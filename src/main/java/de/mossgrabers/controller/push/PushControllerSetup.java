@@ -33,6 +33,7 @@ import de.mossgrabers.controller.push.command.trigger.ShiftCommand;
 import de.mossgrabers.controller.push.command.trigger.SoloCommand;
 import de.mossgrabers.controller.push.command.trigger.TrackCommand;
 import de.mossgrabers.controller.push.command.trigger.VolumeCommand;
+import de.mossgrabers.controller.push.controller.PushColorManager;
 import de.mossgrabers.controller.push.controller.PushColors;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
 import de.mossgrabers.controller.push.controller.PushDisplay;
@@ -161,7 +162,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     {
         super (factory, host, settings);
         this.isPush2 = isPush2;
-        this.colorManager = new ColorManager ();
+        this.colorManager = new PushColorManager ();
         PushColors.addColors (this.colorManager, isPush2);
         this.valueChanger = new DefaultValueChanger (1024, 10, 1);
         this.configuration = new PushConfiguration (host, this.valueChanger, isPush2);
@@ -172,12 +173,12 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
-
         this.updateButtons ();
         final PushControlSurface surface = this.getSurface ();
         this.updateMode (surface.getModeManager ().getActiveOrTempModeId ());
 
+        this.flushSurfaces ();
+
         final View activeView = surface.getViewManager ().getActiveView ();
         if (activeView == null)
             return;
@@ -198,6 +199,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
             ms.setNumResults (48);
         }
         ms.setNumMarkers (8);
+        // The birds eye grid shows 8 x 8 pages of 8 x 8 clips
+        ms.setOccupancySize (64, 64);
         ms.setHasFlatTrackList (false);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
 
@@ -227,8 +230,11 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         final IMidiInput input = midiAccess.createInput ("Pads", "80????" /* Note off */,
                 "90????" /* Note on */, "B040??" /* Sustainpedal */);
         final PushControlSurface surface = new PushControlSurface (this.model.getHost (), this.colorManager, this.configuration, output, input);
+        ((PushColorManager) this.colorManager).setPaletteAllocator (surface.getPaletteAllocator ());
         this.surfaces.add (surface);
-        surface.setDisplay (this.createDisplay (output));
+        final PushDisplay display = this.createDisplay (output);
+        display.setFlushProfiler (surface.getFlushProfiler ());
+        surface.setDisplay (display);
         surface.getModeManager ().setDefaultMode (Modes.MODE_TRACK);
     }
 
@@ -268,15 +274,15 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         modeManager.registerMode (Modes.MODE_DEVICE_LAYER_DETAILS, new LayerDetailsMode (surface, this.model));
         modeManager.registerMode (Modes.MODE_CLIP, new ClipMode (surface, this.model));
         modeManager.registerMode (Modes.MODE_NOTE, new NoteMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_FRAME, new FrameMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_FRAME, () -> new FrameMode (surface, this.model));
         modeManager.registerMode (Modes.MODE_SCALES, new ScalesMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_SCALE_LAYOUT, new ScaleLayoutMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_ACCENT, new AccentMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_FIXED, new FixedMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_RIBBON, new RibbonMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_GROOVE, new GrooveMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_SCALE_LAYOUT, () -> new ScaleLayoutMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_ACCENT, () -> new AccentMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_FIXED, () -> new FixedMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_RIBBON, () -> new RibbonMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_GROOVE, () -> new GrooveMode (surface, this.model));
         modeManager.registerMode (Modes.MODE_VIEW_SELECT, new NoteViewSelectMode (surface, this.model));
-        modeManager.registerMode (Modes.MODE_MARKERS, new MarkersMode (surface, this.model));
+        modeManager.registerLazyMode (Modes.MODE_MARKERS, () -> new MarkersMode (surface, this.model));
 
         modeManager.registerMode (Modes.MODE_AUTOMATION, new AutomationMode (surface, this.model));
         modeManager.registerMode (Modes.MODE_TRANSPORT, new TransportMode (surface, this.model));
@@ -300,11 +306,11 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         if (this.isPush2)
         {
-            modeManager.registerMode (Modes.MODE_SETUP, new SetupMode (surface, this.model));
-            modeManager.registerMode (Modes.MODE_INFO, new InfoMode (surface, this.model));
+            modeManager.registerLazyMode (Modes.MODE_SETUP, () -> new SetupMode (surface, this.model));
+            modeManager.registerLazyMode (Modes.MODE_INFO, () -> new InfoMode (surface, this.model));
         }
         else
-            modeManager.registerMode (Modes.MODE_CONFIGURATION, new ConfigurationMode (surface, this.model));
+            modeManager.registerLazyMode (Modes.MODE_CONFIGURATION, () -> new ConfigurationMode (surface, this.model));
 
         if (this.host.hasClips ())
         {
@@ -382,8 +388,11 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         this.configuration.addSettingObserver (AbstractConfiguration.KNOB_SPEED_NORMAL, () -> this.valueChanger.setFractionValue (this.configuration.getKnobSpeedNormal ()));
         this.configuration.addSettingObserver (AbstractConfiguration.KNOB_SPEED_SLOW, () -> this.valueChanger.setSlowFractionValue (this.configuration.getKnobSpeedSlow ()));
+        this.configuration.addSettingObserver (AbstractConfiguration.KNOB_ACCELERATION, () -> this.valueChanger.getAcceleration ().setMaxFactor (this.configuration.getKnobAcceleration ()));
 
         this.createScaleObservers (this.configuration);
+
+        this.createVuMeterObserver ();
     }
 
 
@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+
+
+/**
+ * Color manager which displays RGB colors exactly by using dynamically assigned palette entries of
+ * the Push 2.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PushColorManager extends ColorManager
+{
+    private PushPaletteAllocator paletteAllocator;
+
+
+    /**
+     * Set the allocator for the palette entries. Without an allocator the closest DAW color is used.
+     *
+     * @param paletteAllocator The allocator
+     */
+    public void setPaletteAllocator (final PushPaletteAllocator paletteAllocator)
+    {
+        this.paletteAllocator = paletteAllocator;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColor (final double [] rgb)
+    {
+        if (this.paletteAllocator != null)
+        {
+            final int index = this.paletteAllocator.getPaletteIndex (rgb);
+            if (index >= 0)
+                return index;
+        }
+        return super.getColor (rgb);
+    }
+}
@@ -6,9 +6,9 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
-import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -426,6 +426,18 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         "00 01 07 02 00 01 09 0A"
     };
 
+    /** The first bytes of the response to a palette entry request of the Push 2. */
+    private static final int []      PALETTE_ENTRY_RESPONSE        =
+    {
+        0xF0,
+        0x00,
+        0x21,
+        0x1D,
+        0x01,
+        0x01,
+        0x04
+    };
+
     private static final int []      MAXW                          =
     {
         1700,
@@ -526,7 +538,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     };
 
     /** The default color palette (like fixed on Push 1) */
-    protected static final int [] [] DEFAULT_PALETTE               =
+    protected static final int [] []   DEFAULT_PALETTE               =
     {
         {
             0x00,
@@ -1170,19 +1182,20 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         }
     };
 
-    private static final int         PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
-    private static final int         NUM_VELOCITY_CURVE_ENTRIES    = 128;
+    private static final int           PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
+    private static final int           NUM_VELOCITY_CURVE_ENTRIES    = 128;
 
-    private int []                   whiteMap                      = new int [128];
+    private final PushPaletteManager   paletteManager;
+    private final PushPaletteAllocator paletteAllocator;
 
-    private int                      ribbonMode                    = -1;
-    private int                      ribbonValue                   = -1;
+    private int                        ribbonMode                    = -1;
+    private int                        ribbonValue                   = -1;
 
-    private int                      majorVersion                  = -1;
-    private int                      minorVersion                  = -1;
-    private int                      buildNumber                   = -1;
-    private int                      serialNumber                  = -1;
-    private int                      boardRevision                 = -1;
+    private int                        majorVersion                  = -1;
+    private int                        minorVersion                  = -1;
+    private int                        buildNumber                   = -1;
+    private int                        serialNumber                  = -1;
+    private int                        boardRevision                 = -1;
 
 
     /**
@@ -1208,9 +1221,12 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         this.upButtonId = PUSH_BUTTON_UP;
         this.downButtonId = PUSH_BUTTON_DOWN;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.paletteManager = new PushPaletteManager (host, this);
+        this.paletteAllocator = configuration.isPush2 () ? new PushPaletteAllocator (this.paletteManager) : null;
 
-        Arrays.fill (this.whiteMap, -1);
+        this.input.addSysexCallback (DeviceInquiry.RESPONSE_PREFIX, this::handleDeviceInquiry);
+        if (configuration.isPush2 ())
+            this.input.addSysexCallback (PALETTE_ENTRY_RESPONSE, this.paletteManager::handlePaletteEntry);
     }
 
 
@@ -1268,7 +1284,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         this.output.sendCCEx (channel, button, value);
     }
@@ -1546,84 +1562,16 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Handle incoming sysexc data.
+     * Handle an incoming device inquiry response.
      *
      * @param data The data
+     * @param length The length of the data
      */
-    private void handleSysEx (final String data)
+    private void handleDeviceInquiry (final int [] data, final int length)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data, length);
         if (deviceInquiry.isValid ())
-        {
             this.handleDeviceInquiryResponse (deviceInquiry);
-            return;
-        }
-
-        if (!this.configuration.isPush2 ())
-            return;
-
-        // Color palette entry message
-        if (byteData[6] == 0x04)
-        {
-            // Keep the white calibration value
-            final int index = byteData[7];
-            this.whiteMap[index] = byteData[14] + (byteData[15] << 7);
-
-            // Request the next color entry ...
-            for (int i = 0; i < 128; i++)
-            {
-                if (this.whiteMap[i] == -1)
-                {
-                    this.sendColorPaletteRequest (i);
-                    return;
-                }
-            }
-
-            this.setDefaultColorPalette ();
-        }
-    }
-
-
-    /**
-     * Set the default color palette on the Push 2 using the retrieved white calibration values.
-     */
-    private void setDefaultColorPalette ()
-    {
-        final int [] data = new int [10];
-
-        for (int i = 0; i < 128; i++)
-        {
-            int [] color;
-            if (i >= 70 && i <= 96)
-            {
-                double [] colorEntry = DAWColors.getColorEntry (i - 70);
-                color = new int []
-                {
-                    (int) Math.round (colorEntry[0] * 255.0),
-                    (int) Math.round (colorEntry[1] * 255.0),
-                    (int) Math.round (colorEntry[2] * 255.0)
-                };
-            }
-            else
-                color = DEFAULT_PALETTE[i];
-
-            data[0] = 0x03;
-            data[1] = i;
-            data[2] = color[0] % 128;
-            data[3] = color[0] / 128;
-            data[4] = color[1] % 128;
-            data[5] = color[1] / 128;
-            data[6] = color[2] % 128;
-            data[7] = color[2] / 128;
-            data[8] = this.whiteMap[i] % 128;
-            data[9] = this.whiteMap[i] / 128;
-
-            this.sendPush2SysEx (data);
-        }
-
-        // Re-apply the color palette
-        this.output.sendSysex ("F0 00 21 1D 01 01 05 F7");
     }
 
 
@@ -1646,6 +1594,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            this.paletteManager.setSerialNumber (this.serialNumber);
         }
         else
         {
@@ -1739,27 +1689,50 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Request the full color palette. Only available on Push 2.
      */
     public void requestColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        sendColorPaletteRequest (0);
+        if (this.configuration.isPush2 ())
+            this.paletteManager.requestPalette ();
     }
 
 
     /**
-     * Send a request to the Push 2 to send the values of an entry of the current color palette.
+     * Get the manager of the Push 2 color palette.
      *
-     * @param paletteEntry The index of the entry 0-127
+     * @return The palette manager
      */
-    private void sendColorPaletteRequest (final int paletteEntry)
+    public PushPaletteManager getPaletteManager ()
     {
-        this.sendPush2SysEx (new int []
+        return this.paletteManager;
+    }
+
+
+    /**
+     * Get the allocator for palette entries with arbitrary colors.
+     *
+     * @return The allocator, null if not Push 2
+     */
+    public PushPaletteAllocator getPaletteAllocator ()
+    {
+        return this.paletteAllocator;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void redrawGrid ()
+    {
+        super.redrawGrid ();
+
+        // Apply the palette entries which were assigned while drawing the pads
+        if (this.paletteAllocator != null)
         {
-            0x04,
-            paletteEntry
-        });
+            final long start = this.profiler.start ();
+            this.paletteAllocator.flush ();
+            this.profiler.stop (Phase.PAD_FLUSH, start);
+        }
     }
 
 
@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.controller.push.PushConfiguration;
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.GraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
@@ -13,6 +14,7 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.display.VirtualDisplay;
 import de.mossgrabers.framework.graphics.grid.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -39,38 +41,6 @@ public class PushDisplay extends GraphicDisplay
     /** Push character for a right arrow. */
     public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
 
-    private static final String [] SPACES        =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
-    private static final String [] DASHES        =
-    {
-        "",
-        BARS_NON,
-        BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON,
-        BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
-    };
-
     private static final String [] SYSEX_MESSAGE =
     {
         "F0 47 7F 15 18 00 45 00 ",
@@ -108,6 +78,18 @@ public class PushDisplay extends GraphicDisplay
     }
 
 
+    /**
+     * Set the profiler which measures the time spent for sending the display image via USB.
+     *
+     * @param profiler The profiler
+     */
+    public void setFlushProfiler (final FlushProfiler profiler)
+    {
+        if (this.usbDisplay != null)
+            this.usbDisplay.setFlushProfiler (profiler);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -128,7 +110,7 @@ public class PushDisplay extends GraphicDisplay
     @Override
     public PushDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * 8 + cell] = cell % 2 == 0 ? "         " : "        ";
+        this.setCellText (row, cell, null, cell % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -140,12 +122,12 @@ public class PushDisplay extends GraphicDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8, " ");
+            this.setCellText (row, cell, value, 9);
+            this.setCellText (row, cell + 1, value, 9, 8, 8);
         }
         else
         {
-            this.cells[row * 8 + cell] = pad (value, 9, " ");
+            this.setCellText (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -164,7 +146,7 @@ public class PushDisplay extends GraphicDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = pad (value, 8, " ") + (cell % 2 == 0 ? " " : "");
+        this.setCellText (row, cell, value, 8, cell % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -180,6 +162,15 @@ public class PushDisplay extends GraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeLine (final int row, final char [] text, final int length)
+    {
+        final StringBuilder sysex = new StringBuilder (PushDisplay.SYSEX_MESSAGE[row].length () + 3 * length + 2).append (PushDisplay.SYSEX_MESSAGE[row]);
+        this.output.sendSysex (StringUtils.appendHex (sysex, text, length).append ("F7").toString ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void notifyOnDisplay (final String message)
@@ -245,13 +236,7 @@ public class PushDisplay extends GraphicDisplay
      */
     public static String pad (final String str, final int length, final String character)
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + (" ".equals (character) ? PushDisplay.SPACES[diff] : PushDisplay.DASHES[diff]);
-        return text;
+        return StringUtils.pad (str, length, " ".equals (character) ? ' ' : BARS_NON.charAt (0));
     }
 
 
@@ -0,0 +1,160 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Assigns arbitrary RGB colors to the palette entries of the Push 2 which are not used by the fixed
+ * colors. If all entries are occupied, the least recently used entry is replaced. All palette
+ * changes of one frame are applied with a single re-apply message at the end of the frame. The
+ * number of entries which are written per frame is limited to keep the sysex traffic low, e.g. when
+ * a session with many different colors is scrolled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PushPaletteAllocator
+{
+    /** The palette entries which are not used by the fixed colors. */
+    private static final int []         SLOTS                = new int []
+    {
+        61,
+        62,
+        63,
+        64,
+        66,
+        67,
+        68,
+        97,
+        98,
+        99,
+        100,
+        101,
+        102,
+        104,
+        105,
+        106,
+        107,
+        108,
+        109,
+        110,
+        111,
+        112,
+        113,
+        114,
+        115,
+        116,
+        117,
+        119,
+        120,
+        121,
+        122,
+        123,
+        124,
+        125,
+        126,
+        127
+    };
+
+    private static final int            MAX_WRITES_PER_FRAME = 16;
+
+    private final PushPaletteManager    paletteManager;
+    private final Map<Integer, Integer> lookup               = new HashMap<> (SLOTS.length);
+    private final int []                slotColors           = new int [SLOTS.length];
+    private final long []               lastUsed             = new long [SLOTS.length];
+    private long                        frame                = 1;
+    private int                         writes;
+
+
+    /**
+     * Constructor.
+     *
+     * @param paletteManager The palette manager for sending the palette entries
+     */
+    public PushPaletteAllocator (final PushPaletteManager paletteManager)
+    {
+        this.paletteManager = paletteManager;
+
+        Arrays.fill (this.slotColors, -1);
+    }
+
+
+    /**
+     * Get the palette entry for a RGB color. If the color is not assigned to an entry yet, the
+     * least recently used entry is re-assigned.
+     *
+     * @param rgb The red, green and blue value in the range of [0..1]
+     * @return The index of the palette entry or -1 if no entry is available in this frame
+     */
+    public int getPaletteIndex (final double [] rgb)
+    {
+        if (!this.paletteManager.isReady ())
+            return -1;
+
+        final int [] color =
+        {
+            toByte (rgb[0]),
+            toByte (rgb[1]),
+            toByte (rgb[2])
+        };
+        final Integer key = Integer.valueOf (color[0] << 16 | color[1] << 8 | color[2]);
+
+        final Integer slot = this.lookup.get (key);
+        if (slot != null)
+        {
+            final int index = slot.intValue ();
+            this.lastUsed[index] = this.frame;
+            return SLOTS[index];
+        }
+
+        if (this.writes >= MAX_WRITES_PER_FRAME)
+            return -1;
+
+        // Replace the least recently used entry, but not one which is already used in this frame
+        int index = -1;
+        long oldest = this.frame;
+        for (int i = 0; i < SLOTS.length; i++)
+        {
+            if (this.lastUsed[i] < oldest)
+            {
+                oldest = this.lastUsed[i];
+                index = i;
+            }
+        }
+        if (index < 0)
+            return -1;
+
+        if (this.slotColors[index] >= 0)
+            this.lookup.remove (Integer.valueOf (this.slotColors[index]));
+        this.slotColors[index] = key.intValue ();
+        this.lookup.put (key, Integer.valueOf (index));
+        this.lastUsed[index] = this.frame;
+
+        this.paletteManager.sendPaletteEntry (SLOTS[index], color);
+        this.writes++;
+        return SLOTS[index];
+    }
+
+
+    /**
+     * Ends a frame. Applies the palette entries which were changed during the frame.
+     */
+    public void flush ()
+    {
+        if (this.writes > 0)
+            this.paletteManager.reapplyPalette ();
+        this.writes = 0;
+        this.frame++;
+    }
+
+
+    private static int toByte (final double value)
+    {
+        return Math.max (0, Math.min (255, (int) Math.round (value * 255.0)));
+    }
+}
@@ -0,0 +1,400 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Properties;
+
+
+/**
+ * Negotiates the color palette of the Push 2. The palette entries are requested in a pipeline of
+ * several outstanding requests instead of one after the other. Only entries which differ from the
+ * default palette are uploaded.
+ *
+ * The white calibration values are specific to each unit. They are stored in a cache file, which is
+ * identified by the serial number of the device. If the calibration of a unit is already known, the
+ * palette is uploaded directly without requesting it first.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PushPaletteManager
+{
+    /** The number of palette entries. */
+    public static final int          NUM_ENTRIES     = 128;
+
+    /** The number of requests which are sent without waiting for the responses. */
+    private static final int         WINDOW_SIZE     = 16;
+    /** Time in milliseconds to wait for the serial number and the palette responses. */
+    private static final int         TIMEOUT         = 1000;
+    private static final int         MAX_RETRIES     = 3;
+
+    private static final String      CACHE_FOLDER    = ".DrivenByMoss";
+    private static final String      CACHE_PREFIX    = "Push2-Calibration-";
+    private static final String      CACHE_EXTENSION = ".properties";
+    private static final String      WHITE_PREFIX    = "WHITE_";
+
+    private final IHost              host;
+    private final PushControlSurface surface;
+    private final int []             whiteMap        = new int [NUM_ENTRIES];
+    private final int [] []          deviceColors    = new int [NUM_ENTRIES] [];
+
+    private int                      serialNumber    = -1;
+    private boolean                  isPaletteRequested;
+    private boolean                  isRequesting;
+    private int                      nextRequest;
+    private int                      received;
+    private int                      retries;
+    private long                     lastResponse;
+    private volatile boolean         isReady;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param surface The surface to send the sysex messages to
+     */
+    public PushPaletteManager (final IHost host, final PushControlSurface surface)
+    {
+        this.host = host;
+        this.surface = surface;
+
+        Arrays.fill (this.whiteMap, -1);
+    }
+
+
+    /**
+     * Request the color palette. The negotiation starts as soon as the serial number of the device
+     * is known (or it did not arrive in time).
+     */
+    public void requestPalette ()
+    {
+        this.isPaletteRequested = true;
+        if (this.serialNumber >= 0)
+        {
+            this.negotiate ();
+            return;
+        }
+
+        this.host.scheduleTask ( () -> {
+            if (this.isPaletteRequested && this.serialNumber < 0)
+                this.negotiate ();
+        }, TIMEOUT);
+    }
+
+
+    /**
+     * Set the serial number of the device, received by the device inquiry.
+     *
+     * @param serialNumber The serial number
+     */
+    public void setSerialNumber (final int serialNumber)
+    {
+        if (this.serialNumber == serialNumber)
+            return;
+        this.serialNumber = serialNumber;
+        if (this.isPaletteRequested && !this.isRequesting)
+            this.negotiate ();
+    }
+
+
+    /**
+     * Handle the response to a palette entry request.
+     *
+     * @param byteData The sysex data
+     * @param length The length of the sysex data
+     */
+    public void handlePaletteEntry (final int [] byteData, final int length)
+    {
+        if (!this.isRequesting || length < 17)
+            return;
+
+        final int index = byteData[7];
+        if (index < 0 || index >= NUM_ENTRIES || this.deviceColors[index] != null)
+            return;
+
+        this.deviceColors[index] = new int []
+        {
+            byteData[8] + (byteData[9] << 7),
+            byteData[10] + (byteData[11] << 7),
+            byteData[12] + (byteData[13] << 7)
+        };
+        this.whiteMap[index] = byteData[14] + (byteData[15] << 7);
+        this.received++;
+        this.lastResponse = System.currentTimeMillis ();
+
+        if (this.received < NUM_ENTRIES)
+        {
+            // Keep the pipeline filled
+            if (this.nextRequest < NUM_ENTRIES)
+                this.sendRequest (this.nextRequest++);
+            return;
+        }
+
+        this.isRequesting = false;
+        this.storeCalibration ();
+        this.uploadPalette (false);
+    }
+
+
+    /**
+     * Has the palette been negotiated?
+     *
+     * @return True if the palette was uploaded and entries can be changed
+     */
+    public boolean isReady ()
+    {
+        return this.isReady;
+    }
+
+
+    /**
+     * Get the white calibration value of a palette entry.
+     *
+     * @param index The index of the entry 0-127
+     * @return The white value or -1 if not known yet
+     */
+    public int getWhite (final int index)
+    {
+        return this.whiteMap[index];
+    }
+
+
+    /**
+     * Get the color of the default palette for an entry.
+     *
+     * @param index The index of the entry 0-127
+     * @return The red, green and blue values 0-255
+     */
+    public static int [] getDefaultColor (final int index)
+    {
+        if (index < 70 || index > 96)
+            return PushControlSurface.DEFAULT_PALETTE[index];
+
+        final double [] colorEntry = DAWColors.getColorEntry (index - 70);
+        return new int []
+        {
+            (int) Math.round (colorEntry[0] * 255.0),
+            (int) Math.round (colorEntry[1] * 255.0),
+            (int) Math.round (colorEntry[2] * 255.0)
+        };
+    }
+
+
+    /**
+     * Send a palette entry to the device. Call {@link #reapplyPalette()} to make the changes
+     * visible.
+     *
+     * @param index The index of the entry 0-127
+     * @param color The red, green and blue values 0-255
+     */
+    public void sendPaletteEntry (final int index, final int [] color)
+    {
+        final int white = Math.max (0, this.whiteMap[index]);
+        this.surface.sendPush2SysEx (new int []
+        {
+            0x03,
+            index,
+            color[0] % 128,
+            color[0] / 128,
+            color[1] % 128,
+            color[1] / 128,
+            color[2] % 128,
+            color[2] / 128,
+            white % 128,
+            white / 128
+        });
+    }
+
+
+    /**
+     * Re-apply the color palette after entries were changed.
+     */
+    public void reapplyPalette ()
+    {
+        this.surface.sendPush2SysEx (new int []
+        {
+            0x05
+        });
+    }
+
+
+    /**
+     * Start the negotiation. If the calibration of the unit is cached, the palette is uploaded
+     * directly, otherwise it is requested from the device.
+     */
+    private void negotiate ()
+    {
+        this.isPaletteRequested = false;
+
+        if (this.loadCalibration ())
+        {
+            this.uploadPalette (true);
+            return;
+        }
+
+        Arrays.fill (this.deviceColors, null);
+        this.isRequesting = true;
+        this.received = 0;
+        this.retries = 0;
+        this.nextRequest = 0;
+        this.lastResponse = System.currentTimeMillis ();
+        while (this.nextRequest < WINDOW_SIZE)
+            this.sendRequest (this.nextRequest++);
+        this.host.scheduleTask (this::checkTimeout, TIMEOUT);
+    }
+
+
+    /**
+     * Request the missing entries again, if the device did not respond in time.
+     */
+    private void checkTimeout ()
+    {
+        if (!this.isRequesting)
+            return;
+
+        if (System.currentTimeMillis () - this.lastResponse >= TIMEOUT)
+        {
+            this.retries++;
+            if (this.retries > MAX_RETRIES)
+            {
+                this.host.error ("Push 2 did not send the complete color palette.");
+                this.isRequesting = false;
+                return;
+            }
+
+            for (int i = 0; i < this.nextRequest; i++)
+            {
+                if (this.deviceColors[i] == null)
+                    this.sendRequest (i);
+            }
+            this.lastResponse = System.currentTimeMillis ();
+        }
+
+        this.host.scheduleTask (this::checkTimeout, TIMEOUT);
+    }
+
+
+    /**
+     * Upload the default palette.
+     *
+     * @param all True to upload all entries, otherwise only the ones which differ from the entries
+     *            received from the device
+     */
+    private void uploadPalette (final boolean all)
+    {
+        boolean hasChanged = false;
+        for (int i = 0; i < NUM_ENTRIES; i++)
+        {
+            final int [] color = getDefaultColor (i);
+            if (all || !Arrays.equals (color, this.deviceColors[i]))
+            {
+                this.sendPaletteEntry (i, color);
+                hasChanged = true;
+            }
+        }
+
+        if (hasChanged)
+            this.reapplyPalette ();
+
+        this.isReady = true;
+    }
+
+
+    /**
+     * Send a request to the Push 2 to send the values of an entry of the current color palette.
+     *
+     * @param index The index of the entry 0-127
+     */
+    private void sendRequest (final int index)
+    {
+        this.surface.sendPush2SysEx (new int []
+        {
+            0x04,
+            index
+        });
+    }
+
+
+    /**
+     * Load the white calibration of the unit from the cache.
+     *
+     * @return True if the calibration was found
+     */
+    private boolean loadCalibration ()
+    {
+        final File file = this.getCacheFile ();
+        if (file == null || !file.exists ())
+            return false;
+
+        final Properties props = new Properties ();
+        try (final Reader reader = new FileReader (file))
+        {
+            props.load (reader);
+            final int [] values = new int [NUM_ENTRIES];
+            for (int i = 0; i < NUM_ENTRIES; i++)
+                values[i] = Integer.parseInt (props.getProperty (WHITE_PREFIX + i));
+            System.arraycopy (values, 0, this.whiteMap, 0, NUM_ENTRIES);
+            return true;
+        }
+        catch (final IOException | NumberFormatException ex)
+        {
+            this.host.error ("Could not read Push 2 calibration cache.", ex);
+            return false;
+        }
+    }
+
+
+    /**
+     * Store the white calibration of the unit in the cache.
+     */
+    private void storeCalibration ()
+    {
+        final File file = this.getCacheFile ();
+        if (file == null)
+            return;
+
+        final File folder = file.getParentFile ();
+        if (!folder.exists () && !folder.mkdirs ())
+        {
+            this.host.error ("Could not create folder: " + folder.getAbsolutePath ());
+            return;
+        }
+
+        final Properties props = new Properties ();
+        for (int i = 0; i < NUM_ENTRIES; i++)
+            props.put (WHITE_PREFIX + i, Integer.toString (this.whiteMap[i]));
+        try (final Writer writer = new FileWriter (file))
+        {
+            props.store (writer, "Push 2 white calibration");
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not write Push 2 calibration cache.", ex);
+        }
+    }
+
+
+    /**
+     * Get the cache file for the unit.
+     *
+     * @return The file or null if the serial number is not known
+     */
+    private File getCacheFile ()
+    {
+        if (this.serialNumber <= 0)
+            return null;
+        return new File (new File (System.getProperty ("user.home"), CACHE_FOLDER), CACHE_PREFIX + this.serialNumber + CACHE_EXTENSION);
+    }
+}
@@ -4,6 +4,8 @@
 
 package de.mossgrabers.controller.push.controller;
 
+import de.mossgrabers.framework.controller.FlushProfiler;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
@@ -52,6 +54,7 @@ public class PushUsbDisplay
     private final IMemoryBlock   headerBlock;
     private final IMemoryBlock   imageBlock;
     private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private FlushProfiler        profiler;
 
 
     /**
@@ -76,6 +79,20 @@ public class PushUsbDisplay
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
         this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        // Disabled until the profiler of the surface is set
+        this.profiler = new FlushProfiler (host, "Push display");
+    }
+
+
+    /**
+     * Set the profiler which measures the time spent for encoding and sending the image.
+     *
+     * @param profiler The profiler
+     */
+    public void setFlushProfiler (final FlushProfiler profiler)
+    {
+        this.profiler = profiler;
     }
 
 
@@ -93,6 +110,7 @@ public class PushUsbDisplay
 
             this.isSending.set (true);
 
+            final long start = this.profiler.start ();
             final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
 
             image.encode ( (imageBuffer, width, height) -> {
@@ -123,6 +141,7 @@ public class PushUsbDisplay
 
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
             this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.profiler.stop (Phase.USB, start);
             this.isSending.set (false);
         }
     }
@@ -7,7 +7,6 @@ package de.mossgrabers.controller.push.mode;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
-import de.mossgrabers.framework.daw.IGroove;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.graphics.display.DisplayModel;
@@ -29,6 +28,8 @@ public class GrooveMode extends BaseMode
     public GrooveMode (final PushControlSurface surface, final IModel model)
     {
         super ("Groove", surface, model);
+
+        this.addObserved (model.getGroove ());
     }
 
 
@@ -36,7 +37,8 @@ public class GrooveMode extends BaseMode
     @Override
     public void onActivate ()
     {
-        this.setActive (true);
+        super.onActivate ();
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -44,7 +46,8 @@ public class GrooveMode extends BaseMode
     @Override
     public void onDeactivate ()
     {
-        this.setActive (false);
+        super.onDeactivate ();
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -107,12 +110,4 @@ public class GrooveMode extends BaseMode
             message.addEmptyElement ();
         message.send ();
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
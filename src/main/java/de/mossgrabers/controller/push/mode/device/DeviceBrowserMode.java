@@ -47,6 +47,12 @@ public class DeviceBrowserMode extends BaseMode
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
+
+        // The filter columns and results are only displayed in this mode
+        final IBrowser browser = model.getBrowser ();
+        for (int i = 0; i < browser.getFilterColumnCount (); i++)
+            this.addObserved (browser.getFilterColumn (i));
+        this.addObserved (browser.getResultColumnItems ());
     }
 
 
@@ -54,6 +60,7 @@ public class DeviceBrowserMode extends BaseMode
     @Override
     public void onDeactivate ()
     {
+        super.onDeactivate ();
         this.model.getBrowser ().stopBrowsing (true);
     }
 
@@ -208,9 +215,15 @@ public class DeviceBrowserMode extends BaseMode
                     return;
                 }
 
+                // Display the page of the selected result from the received results, which
+                // follows the selection without waiting for the DAW
+                final int selected = browser.getSelectedResultPosition ();
+                final int pageStart = selected - selected % 16;
                 for (int i = 0; i < 16; i++)
                 {
-                    if (i < results.length)
+                    if (selected >= 0)
+                        d.setBlock (i % 4, i / 4, (pageStart + i == selected ? PushDisplay.SELECT_ARROW : " ") + StringUtils.optimizeName (browser.getResultName (pageStart + i), 16));
+                    else if (i < results.length)
                         d.setBlock (i % 4, i / 4, (results[i].isSelected () ? PushDisplay.SELECT_ARROW : " ") + results[i].getName (16));
                     else
                         d.setBlock (i % 4, i / 4, "");
@@ -281,6 +294,10 @@ public class DeviceBrowserMode extends BaseMode
                     return;
                 }
 
+                // Display the page of the selected result from the received results, which
+                // follows the selection without waiting for the DAW
+                final int selectedPosition = browser.getSelectedResultPosition ();
+                final int pageStart = selectedPosition - selectedPosition % 48;
                 for (int i = 0; i < 8; i++)
                 {
                     final String [] items = new String [6];
@@ -288,8 +305,16 @@ public class DeviceBrowserMode extends BaseMode
                     for (int item = 0; item < 6; item++)
                     {
                         final int pos = i * 6 + item;
-                        items[item] = pos < results.length ? results[pos].getName (16) : "";
-                        selected[item] = pos < results.length && results[pos].isSelected ();
+                        if (selectedPosition >= 0)
+                        {
+                            items[item] = StringUtils.optimizeName (browser.getResultName (pageStart + pos), 16);
+                            selected[item] = pageStart + pos == selectedPosition;
+                        }
+                        else
+                        {
+                            items[item] = pos < results.length ? results[pos].getName (16) : "";
+                            selected[item] = pos < results.length && results[pos].isSelected ();
+                        }
                     }
                     message.addListElement (items, selected);
                 }
@@ -227,7 +227,7 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
@@ -67,6 +67,11 @@ public class SLConfiguration extends AbstractConfiguration
     @Override
     public void init (final ISettingsUI settingsUI)
     {
+        ///////////////////////////
+        // Hardware
+
+        this.activateMidiThrottleSetting (settingsUI);
+
         ///////////////////////////
         // Play and Sequence
 
@@ -88,6 +93,12 @@ public class SLConfiguration extends AbstractConfiguration
             this.drumpadsAsModeSelection = ON_OFF_OPTIONS[1].equals (value);
             this.notifyObservers (DRUMPADS_AS_MODE_SELECTION);
         });
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 
 
@@ -230,7 +230,7 @@ public class SLControlSurface extends AbstractControlSurface<SLConfiguration>
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         this.output.sendCCEx (channel, button, value);
     }
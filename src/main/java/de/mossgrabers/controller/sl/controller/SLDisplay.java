@@ -20,21 +20,7 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractDisplay
 {
     /** The right arrow. */
-    public static final String     RIGHT_ARROW = ">";
-
-    private static final String [] SPACES      =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
+    public static final String RIGHT_ARROW = ">";
 
 
     /**
@@ -54,7 +40,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public SLDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ";
+        this.setCellText (row, cell, null, 9);
         return this;
     }
 
@@ -66,12 +52,12 @@ public class SLDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8) + " ";
+            this.setCellText (row, cell, value, 9);
+            this.setCellText (row, cell + 1, value, 9, 8, 9);
         }
         else
         {
-            this.cells[row * 8 + cell] = pad (value, 9);
+            this.setCellText (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -82,7 +68,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), 8) + " ";
+        this.setCellText (row, column, Integer.toString (value), 8, 9);
         return this;
     }
 
@@ -93,7 +79,7 @@ public class SLDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, 8) + " ";
+            this.setCellText (row, column, value, 8, 9);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -117,21 +103,18 @@ public class SLDisplay extends AbstractDisplay
 
     /** {@inheritDoc} */
     @Override
-    public void shutdown ()
+    protected void writeLine (final int row, final char [] text, final int length)
     {
-        this.notify ("Please start " + this.host.getName () + " to play...");
+        final StringBuilder sysex = new StringBuilder (SLControlSurface.SYSEX_HEADER).append ("02 01 00 ").append (uint7ToHex (row + 1)).append ("04 ");
+        this.output.sendSysex (StringUtils.appendHex (sysex, text, length).append ("00 F7").toString ());
     }
 
 
-    private static String pad (final String str, final int length)
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
+        this.notify ("Please start " + this.host.getName () + " to play...");
     }
 
 
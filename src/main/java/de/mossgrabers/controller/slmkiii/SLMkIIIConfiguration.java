@@ -47,5 +47,11 @@ public class SLMkIIIConfiguration extends AbstractConfiguration
             this.activateDrawRecordStripeSetting (settingsUI);
             this.activateActionForRecArmedPad (settingsUI);
         }
+
+        ///////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (settingsUI);
+        this.activateCaptureSettings (settingsUI, CATEGORY_DEBUG);
     }
 }
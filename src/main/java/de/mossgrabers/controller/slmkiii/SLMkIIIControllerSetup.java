@@ -107,8 +107,8 @@ public class SLMkIIIControllerSetup extends AbstractControllerSetup<SLMkIIIContr
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
@@ -196,13 +196,13 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
     @Override
     public void setButton (final int button, final int state)
     {
-        this.output.sendCCEx (15, button, state);
+        this.setButtonEx (button, 15, state);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (final int button, final int channel, final int state)
+    protected void sendButtonState (final int button, final int channel, final int state)
     {
         this.output.sendCCEx (channel, button, state);
     }
@@ -19,10 +19,10 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractDisplay
 {
-    private static final String    MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String    MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String    MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String    MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+    private static final String MKIII_SYSEX_HEADER           = "F0 00 20 29 02 0A 01 ";
+    private static final String MKIII_SYSEX_LAYOUT_COMMAND   = MKIII_SYSEX_HEADER + "01 %02d F7";
+    private static final String MKIII_SYSEX_PROPERTY_COMMAND = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
+    private static final String MKIII_SYSEX_LED_COMMAND      = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
     @SuppressWarnings("unused")
     private static final String    MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
 
@@ -39,24 +39,6 @@ public class SLMkIIIDisplay extends AbstractDisplay
 
     private static String          LED_CACHE_STR                    = "%02X%02X%02X";
 
-    private static final String [] SPACES                           =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
     private final String []        ledCache                         = new String [8];
     private final int [] []        displayColorCache                = new int [9] [4];
     private final int [] []        displayValueCache                = new int [9] [4];
@@ -92,7 +74,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
     @Override
     public SLMkIIIDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ";
+        this.setCellText (row, cell, null, 9);
         return this;
     }
 
@@ -104,12 +86,12 @@ public class SLMkIIIDisplay extends AbstractDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (9), 9);
+            this.setCellText (row, cell, value, 9);
+            this.setCellText (row, cell + 1, value, 9, 9, 9);
         }
         else
         {
-            this.cells[row * this.noOfCells + cell] = pad (value, 9);
+            this.setCellText (row, cell, value, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -129,7 +111,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
     @Override
     public SLMkIIIDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * this.noOfCells + cell] = pad (value, this.noOfCells);
+        this.setCellText (row, cell, value, this.noOfCells);
         return this;
     }
 
@@ -272,13 +254,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
      */
     public static String pad (final String str, final int length)
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SLMkIIIDisplay.SPACES[diff];
-        return text;
+        return StringUtils.pad (str, length, ' ');
     }
 
 
@@ -88,6 +88,16 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer    KNOB_SPEED_NORMAL                 = Integer.valueOf (29);
     /** The speed of a knob in slow mode. */
     public static final Integer    KNOB_SPEED_SLOW                   = Integer.valueOf (30);
+    /** Setting for profiling the flush of the surfaces. */
+    public static final Integer    FLUSH_PROFILER                    = Integer.valueOf (31);
+    /** Setting for limiting the midi output to the bandwidth of DIN midi. */
+    public static final Integer    MIDI_THROTTLE                     = Integer.valueOf (32);
+    /** The acceleration of endless knobs. */
+    public static final Integer    KNOB_ACCELERATION                 = Integer.valueOf (33);
+    /** Setting for capturing the received messages to a file. */
+    public static final Integer    CAPTURE                           = Integer.valueOf (34);
+    /** Setting for replaying the capture file. */
+    public static final Integer    REPLAY                            = Integer.valueOf (35);
 
     // Implementation IDs start at 50
 
@@ -232,6 +242,40 @@ public abstract class AbstractConfiguration implements Configuration
         "Show"
     };
 
+    private static final String []                   KNOB_ACCELERATION_VALUES    =
+    {
+        "Off",
+        "Low",
+        "Medium",
+        "High"
+    };
+
+    private static final int []                      KNOB_ACCELERATION_FACTORS   =
+    {
+        1,
+        4,
+        8,
+        16
+    };
+
+    private static final String []                   REPLAY_SPEED_OPTIONS        =
+    {
+        "1x",
+        "2x",
+        "4x",
+        "8x",
+        "Max"
+    };
+
+    private static final double []                   REPLAY_SPEEDS               =
+    {
+        1,
+        2,
+        4,
+        8,
+        0
+    };
+
     /** The Off/On option. */
     protected static final String []                 ON_OFF_OPTIONS              =
     {
@@ -292,6 +336,12 @@ public abstract class AbstractConfiguration implements Configuration
     };
     private int                                      knobSpeedNormal             = 10;
     private int                                      knobSpeedSlow               = 1;
+    private boolean                                  isFlushProfilerEnabled      = false;
+    private boolean                                  isMidiThrottleEnabled       = false;
+    private int                                      knobAcceleration            = 1;
+    private boolean                                  isCaptureOn                 = false;
+    private String                                   captureFilename             = "";
+    private double                                   replaySpeed                 = 1;
 
 
     /**
@@ -654,6 +704,54 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFlushProfilerEnabled ()
+    {
+        return this.isFlushProfilerEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMidiThrottleEnabled ()
+    {
+        return this.isMidiThrottleEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getKnobAcceleration ()
+    {
+        return this.knobAcceleration;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCaptureEnabled ()
+    {
+        return this.isCaptureOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCaptureFilename ()
+    {
+        return this.captureFilename;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getReplaySpeed ()
+    {
+        return this.replaySpeed;
+    }
+
+
     /**
      * Activate the scale setting.
      *
@@ -1031,6 +1129,75 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the knob acceleration setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateKnobAccelerationSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting knobAccelerationSetting = settingsUI.getEnumSetting ("Knob Acceleration", CATEGORY_WORKFLOW, KNOB_ACCELERATION_VALUES, KNOB_ACCELERATION_VALUES[0]);
+        knobAccelerationSetting.addValueObserver (value -> {
+            this.knobAcceleration = KNOB_ACCELERATION_FACTORS[lookupIndex (KNOB_ACCELERATION_VALUES, value)];
+            this.notifyObservers (AbstractConfiguration.KNOB_ACCELERATION);
+        });
+    }
+
+
+    /**
+     * Activate the flush profiler setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushProfilerSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting flushProfilerSetting = settingsUI.getEnumSetting ("Profile flush", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        flushProfilerSetting.addValueObserver (value -> {
+            this.isFlushProfilerEnabled = "On".equals (value);
+            this.notifyObservers (AbstractConfiguration.FLUSH_PROFILER);
+        });
+    }
+
+
+    /**
+     * Activate the midi throttle setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMidiThrottleSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting midiThrottleSetting = settingsUI.getEnumSetting ("Limit midi output to DIN bandwidth", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        midiThrottleSetting.addValueObserver (value -> {
+            this.isMidiThrottleEnabled = "On".equals (value);
+            this.notifyObservers (AbstractConfiguration.MIDI_THROTTLE);
+        });
+    }
+
+
+    /**
+     * Activate the settings for capturing the received messages and replaying them.
+     *
+     * @param settingsUI The settings
+     * @param category The category in which to place the settings
+     */
+    protected void activateCaptureSettings (final ISettingsUI settingsUI, final String category)
+    {
+        final IStringSetting captureFileSetting = settingsUI.getStringSetting ("Capture file", category, -1, "");
+        captureFileSetting.addValueObserver (value -> this.captureFilename = value);
+
+        final IEnumSetting captureSetting = settingsUI.getEnumSetting ("Capture", category, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        captureSetting.addValueObserver (value -> {
+            this.isCaptureOn = "On".equals (value);
+            this.notifyObservers (AbstractConfiguration.CAPTURE);
+        });
+
+        final IEnumSetting replaySpeedSetting = settingsUI.getEnumSetting ("Replay speed", category, REPLAY_SPEED_OPTIONS, REPLAY_SPEED_OPTIONS[0]);
+        replaySpeedSetting.addValueObserver (value -> this.replaySpeed = REPLAY_SPEEDS[lookupIndex (REPLAY_SPEED_OPTIONS, value)]);
+
+        settingsUI.getSignalSetting (" ", category, "Replay capture").addValueObserver (value -> this.notifyObservers (AbstractConfiguration.REPLAY));
+    }
+
+
     /**
      * Notify all observers about the change of a setting.
      *
@@ -282,4 +282,52 @@ public interface Configuration
      * @return The value in the range of 1-100%
      */
     int getKnobSpeedSlow ();
+
+
+    /**
+     * Is the profiling of the surface flush enabled?
+     *
+     * @return True if enabled
+     */
+    boolean isFlushProfilerEnabled ();
+
+
+    /**
+     * Should the midi output be limited to the bandwidth of a DIN midi connection?
+     *
+     * @return True if enabled
+     */
+    boolean isMidiThrottleEnabled ();
+
+
+    /**
+     * Get the maximum factor by which the changes of endless knobs are accelerated when turned fast.
+     *
+     * @return The factor, 1 if the acceleration is off
+     */
+    int getKnobAcceleration ();
+
+
+    /**
+     * Is capturing of the received messages enabled?
+     *
+     * @return True if enabled
+     */
+    boolean isCaptureEnabled ();
+
+
+    /**
+     * Get the file to which the received messages are captured and from which they are replayed.
+     *
+     * @return The absolute path of the file, might be empty
+     */
+    String getCaptureFilename ();
+
+
+    /**
+     * Get the speed factor for replaying a capture.
+     *
+     * @return The speed factor, 0 replays as fast as possible
+     */
+    double getReplaySpeed ();
 }
@@ -4,23 +4,25 @@
 
 package de.mossgrabers.framework.controller;
 
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiCapture;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 
@@ -61,7 +63,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected final ButtonEvent []                      buttonStates;
     private final int []                                noteVelocities;
 
-    private final List<int []>                          buttonCache;
+    private final int [] []                             ledStates;
+    private final int [] []                             sentLedStates;
+    private final BitSet                                changedLeds           = new BitSet (NUM_BUTTONS * 16);
+    private long                                        ledMessageCount;
+    private long                                        skippedLedUpdateCount;
 
     protected Display                                   display;
     protected final PadGrid                             pads;
@@ -75,6 +81,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private int []                                      keyTranslationTable;
 
     private final LatestTaskExecutor                    flushExecutor         = new LatestTaskExecutor ();
+    protected final FlushProfiler                       profiler;
+    protected final MidiCapture                         capture;
 
 
     /**
@@ -98,7 +106,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.output = output;
         this.input = input;
         if (this.input != null)
-            this.input.setMidiCallback (this::handleMidi);
+            this.input.setMidiCallback (this::receiveMidi);
 
         // Button related
         this.buttons = buttons == null ? new int [0] : buttons;
@@ -110,14 +118,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.buttonConsumed[button] = false;
         }
 
-        // Optimisation for button LED updates, cache 128 possible note values on
-        // all 16 midi channels
-        this.buttonCache = new ArrayList<> (NUM_BUTTONS);
+        // Button LED states of all 16 midi channels, the requested ones and the ones which were
+        // sent to the controller. Only the differences are sent
+        this.ledStates = new int [NUM_BUTTONS] [16];
+        this.sentLedStates = new int [NUM_BUTTONS] [16];
         for (int i = 0; i < NUM_BUTTONS; i++)
         {
-            final int [] channels = new int [16];
-            Arrays.fill (channels, -1);
-            this.buttonCache.add (channels);
+            Arrays.fill (this.ledStates[i], -1);
+            Arrays.fill (this.sentLedStates[i], -1);
         }
 
         // Notes
@@ -134,6 +142,45 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.gridNoteStates[i] = ButtonEvent.UP;
             this.gridNoteVelocities[i] = 0;
         }
+
+        // Profiling
+        this.profiler = new FlushProfiler (host, this.getClass ().getSimpleName ());
+        this.profiler.addCounter ("button messages", this::getButtonMessageCount);
+        this.profiler.addCounter ("skipped button updates", this::getSkippedButtonUpdateCount);
+        if (this.output != null)
+        {
+            this.profiler.addCounter ("midi messages", this.output::getMessageCount);
+            this.profiler.addCounter ("midi bytes", this.output::getByteCount);
+            this.profiler.addCounter ("coalesced midi messages", this.output::getCoalescedMessageCount);
+        }
+        // Received messages can be captured to a file and replayed into the surface
+        this.capture = this.configuration == null ? null : new MidiCapture (host, this.configuration);
+        if (this.capture != null)
+        {
+            this.capture.setMidiCallback (this::injectMidi);
+            if (this.input != null)
+            {
+                this.capture.setSysexCallback (this.input::injectSysex);
+                this.input.setSysexCaptureCallback (this.capture::recordSysex);
+            }
+        }
+
+        if (this.configuration != null)
+        {
+            this.profiler.setEnabled (this.configuration.isFlushProfilerEnabled ());
+            this.configuration.addSettingObserver (AbstractConfiguration.FLUSH_PROFILER, () -> this.profiler.setEnabled (this.configuration.isFlushProfilerEnabled ()));
+            if (this.output != null)
+            {
+                this.updateMidiThrottle ();
+                this.configuration.addSettingObserver (AbstractConfiguration.MIDI_THROTTLE, this::updateMidiThrottle);
+            }
+        }
+    }
+
+
+    private void updateMidiThrottle ()
+    {
+        this.output.setThrottle (this.configuration.isMidiThrottleEnabled () ? IMidiOutput.DIN_MIDI_BANDWIDTH : 0);
     }
 
 
@@ -196,6 +243,22 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public FlushProfiler getFlushProfiler ()
+    {
+        return this.profiler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MidiCapture getMidiCapture ()
+    {
+        return this.capture;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMidiOutput getOutput ()
@@ -313,12 +376,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void setKeyTranslationTable (final int [] table)
     {
         this.keyTranslationTable = table;
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setKeyTranslationTable (t);
+        if (this.input != null)
+            this.input.setKeyTranslationTable (table);
     }
 
 
@@ -334,12 +393,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setVelocityTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setVelocityTranslationTable (t);
+        if (this.input != null)
+            this.input.setVelocityTranslationTable (table);
     }
 
 
@@ -512,10 +567,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void updateButtonEx (final int button, final int channel, final int value)
     {
-        if (this.buttonCache.get (button)[channel] == value)
-            return;
         this.setButtonEx (button, channel, value);
-        this.buttonCache.get (button)[channel] = value;
     }
 
 
@@ -551,6 +603,21 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void setButtonEx (final int button, final int channel, final int value)
+    {
+        final int [] states = this.ledStates[button];
+        if (states[channel] == value)
+        {
+            this.skippedLedUpdateCount++;
+            return;
+        }
+        states[channel] = value;
+        this.scheduleLedUpdate (button, channel);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setButtonEx (final int button, final int channel, final String colorID)
@@ -569,9 +636,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     /** {@inheritDoc} */
     @Override
-    public void clearButtonCache (final int channel, final int button)
+    public synchronized void clearButtonCache (final int channel, final int button)
     {
-        this.buttonCache.get (button)[channel] = -1;
+        this.sentLedStates[button][channel] = -1;
+        this.scheduleLedUpdate (button, channel);
     }
 
 
@@ -585,10 +653,29 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     /** {@inheritDoc} */
     @Override
-    public void clearFullButtonCache (final int channel)
+    public synchronized void clearFullButtonCache (final int channel)
     {
         for (int i = 0; i < NUM_BUTTONS; i++)
-            this.buttonCache.get (i)[channel] = -1;
+        {
+            this.sentLedStates[i][channel] = -1;
+            this.scheduleLedUpdate (i, channel);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getButtonMessageCount ()
+    {
+        return this.ledMessageCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSkippedButtonUpdateCount ()
+    {
+        return this.skippedLedUpdateCount;
     }
 
 
@@ -621,15 +708,30 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void flush ()
     {
         this.flushExecutor.execute ( () -> {
+            final long start = this.profiler.start ();
+            // Collect all midi messages of the flush, only the last value of a control is sent
+            if (this.output != null)
+                this.output.beginBatch ();
             try
             {
                 this.scheduledFlush ();
                 this.redrawGrid ();
+
+                final long buttonStart = this.profiler.start ();
+                this.flushButtons ();
+                this.profiler.stop (Phase.BUTTON_FLUSH, buttonStart);
             }
             catch (final RuntimeException ex)
             {
                 this.host.error ("Crash during flush.", ex);
             }
+            finally
+            {
+                if (this.output != null)
+                    this.output.endBatch ();
+            }
+            this.profiler.stop (Phase.FLUSH, start);
+            this.profiler.endFrame ();
         });
     }
 
@@ -639,9 +741,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void shutdown ()
     {
         this.flushExecutor.shutdown ();
+        if (this.capture != null)
+            this.capture.shutdown ();
 
         for (final int button: this.getButtons ())
             this.setButton (button, 0);
+        this.flushButtons ();
 
         if (this.pads != null)
             this.pads.turnOff ();
@@ -651,6 +756,21 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Capture and handle midi data received from the midi input.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    private void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.capture != null)
+            this.capture.recordShort (status, data1, data2);
+        this.handleMidi (status, data1, data2);
+    }
+
+
     /**
      * Handle received midi data.
      *
@@ -702,6 +822,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Handle midi data which was not received from the midi input, e.g. when replaying a capture.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public void injectMidi (final int status, final int data1, final int data2)
+    {
+        this.handleMidi (status, data1, data2);
+    }
+
+
     /**
      * Handle a note event
      *
@@ -969,11 +1102,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final View view = this.viewManager.getActiveView ();
         if (view != null)
+        {
+            final long start = this.profiler.start ();
             view.updateControlSurface ();
+            this.profiler.stop (Phase.UPDATE_SURFACE, start);
+        }
         try
         {
             if (this.display != null)
+            {
+                final long start = this.profiler.start ();
                 this.display.flush ();
+                this.profiler.stop (Phase.DISPLAY_FLUSH, start);
+            }
         }
         catch (final NullPointerException ex)
         {
@@ -982,6 +1123,51 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Send the button LED states which differ from the ones which were sent last to the
+     * controller.
+     */
+    protected synchronized void flushButtons ()
+    {
+        // Only check the LEDs which were changed since the last flush
+        for (int index = this.changedLeds.nextSetBit (0); index >= 0; index = this.changedLeds.nextSetBit (index + 1))
+        {
+            final int button = index / 16;
+            final int channel = index % 16;
+            final int value = this.ledStates[button][channel];
+            if (value == this.sentLedStates[button][channel])
+                continue;
+            this.sendButtonState (button, channel, value);
+            this.sentLedStates[button][channel] = value;
+            this.ledMessageCount++;
+        }
+        this.changedLeds.clear ();
+    }
+
+
+    /**
+     * Send the lighting state of a button to the controller.
+     *
+     * @param button The button
+     * @param channel The midi channel to use
+     * @param value The color / brightness depending on the controller
+     */
+    protected abstract void sendButtonState (int button, int channel, int value);
+
+
+    /**
+     * All LED changes which are stored until the next flush are sent together. Must be called
+     * while holding the lock of the surface.
+     *
+     * @param button The button
+     * @param channel The midi channel
+     */
+    private void scheduleLedUpdate (final int button, final int channel)
+    {
+        this.changedLeds.set (button * 16 + channel);
+    }
+
+
     /**
      * Redraws the grid for the active view.
      */
@@ -990,9 +1176,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         final View view = this.viewManager.getActiveView ();
         if (view == null)
             return;
+        long start = this.profiler.start ();
         view.drawGrid ();
+        this.profiler.stop (Phase.DRAW_GRID, start);
         if (this.pads != null)
+        {
+            start = this.profiler.start ();
             this.pads.flush ();
+            this.profiler.stop (Phase.PAD_FLUSH, start);
+        }
     }
 
 
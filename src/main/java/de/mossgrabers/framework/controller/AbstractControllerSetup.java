@@ -42,6 +42,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected IValueChanger       valueChanger;
     protected Integer             currentMode = Modes.MODE_VOLUME;
 
+    private boolean               isVuMeterSubscribed;
+
 
     /**
      * Constructor.
@@ -101,17 +103,21 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.initConfiguration ();
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
+        final StringBuilder timings = new StringBuilder ("Init phases (ms):");
+        this.runPhase (timings, "Configuration", this::initConfiguration);
+        this.runPhase (timings, "Scales", this::createScales);
+        this.runPhase (timings, "Model", this::createModel);
+        this.runPhase (timings, "Surface", this::createSurface);
+        this.runPhase (timings, "Modes", this::createModes);
+        this.runPhase (timings, "Observers", this::createObservers);
+        this.runPhase (timings, "Views", this::createViews);
+        this.runPhase (timings, "Commands", () -> {
+            this.registerTriggerCommands ();
+            this.registerContinuousCommands ();
+        });
         if (this.model != null)
             this.model.ensureClip ();
+        this.host.println (timings.toString ());
     }
 
 
@@ -122,15 +128,33 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        if (this.model != null)
+            this.factory.releaseModel (this.model);
         this.host.println ("Exited.");
     }
 
 
     /**
-     * Flush all surfaces.
+     * Execute a phase of the initialisation and append the time it took.
+     *
+     * @param timings Where to append the time
+     * @param name The name of the phase
+     * @param phase The phase to execute
+     */
+    private void runPhase (final StringBuilder timings, final String name, final Runnable phase)
+    {
+        final long start = System.nanoTime ();
+        phase.run ();
+        timings.append (' ').append (name).append ('=').append ((System.nanoTime () - start) / 1000000);
+    }
+
+
+    /**
+     * Flush all surfaces. The changes of accelerated encoders are applied first.
      */
     public void flushSurfaces ()
     {
+        this.valueChanger.getAcceleration ().flush ();
         for (final S surface: this.surfaces)
             surface.flush ();
     }
@@ -193,6 +217,22 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Keep the subscription to the VU meters of the model in sync with the VU meter setting. Call
+     * this from setups which display VU meters.
+     */
+    protected void createVuMeterObserver ()
+    {
+        this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
+            final boolean enable = this.configuration.isEnableVUMeters ();
+            if (enable == this.isVuMeterSubscribed)
+                return;
+            this.isVuMeterSubscribed = enable;
+            this.model.subscribeVuMeters (enable);
+        });
+    }
+
+
     /**
      * Create and register the trigger commands.
      */
@@ -11,10 +11,11 @@ package de.mossgrabers.framework.controller;
  */
 public class DefaultValueChanger implements IValueChanger
 {
-    private int     upperBound;
-    private double  fractionValue;
-    private double  slowFractionValue;
-    private boolean isSlow;
+    private final EncoderAcceleration acceleration = new EncoderAcceleration ();
+    private int                       upperBound;
+    private double                    fractionValue;
+    private double                    slowFractionValue;
+    private boolean                   isSlow;
 
 
     /**
@@ -112,6 +113,14 @@ public class DefaultValueChanger implements IValueChanger
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public EncoderAcceleration getAcceleration ()
+    {
+        return this.acceleration;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int changeValue (final int control, final int value)
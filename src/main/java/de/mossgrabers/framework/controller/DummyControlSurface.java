@@ -36,7 +36,7 @@ public class DummyControlSurface<C extends Configuration> extends AbstractContro
 
     /** {@inheritDoc} */
     @Override
-    public void setButtonEx (int button, int channel, int value)
+    protected void sendButtonState (int button, int channel, int value)
     {
         // Intentionally empty
     }
@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Accelerates the relative changes of endless encoders depending on how fast they are turned. The
+ * times of the last ticks of each target are stored in a ring buffer, from which the current tick
+ * rate is calculated. The rate is mapped to a factor between 1 and the maximum factor with a
+ * quadratic curve, slow turns stay precise and fast turns cross the whole range of a parameter. All
+ * changes of a target are summed up and applied at once on the next flush, instead of sending each
+ * tick to the DAW. If the maximum factor is 1, the acceleration is disabled and changes are applied
+ * immediately. All methods must be called from the same thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class EncoderAcceleration
+{
+    /** The number of tick times which are stored for each target. */
+    private static final int    HISTORY          = 8;
+    /** Ticks older than this (in nanoseconds) are not considered for the rate. */
+    private static final long   WINDOW           = 250000000L;
+    /** Below this rate (ticks per second) there is no acceleration. */
+    private static final double MIN_RATE         = 10;
+    /** From this rate (ticks per second) on the maximum factor is applied. */
+    private static final double MAX_RATE         = 80;
+    private static final int    INITIAL_CAPACITY = 64;
+
+    private DoubleConsumer []   targets          = new DoubleConsumer [INITIAL_CAPACITY];
+    private long []             tickTimes        = new long [INITIAL_CAPACITY * HISTORY];
+    private int []              tickPositions    = new int [INITIAL_CAPACITY];
+    private double []           pendingChanges   = new double [INITIAL_CAPACITY];
+    private boolean []          isPending        = new boolean [INITIAL_CAPACITY];
+    private int []              pendingIDs       = new int [INITIAL_CAPACITY];
+    private int                 numPending;
+    private int                 numTargets;
+    private double              maxFactor        = 1;
+
+
+    /**
+     * Set the maximum factor which is applied to the changes of an encoder which is turned fast.
+     * Pending changes are applied.
+     *
+     * @param maxFactor The factor, 1 disables the acceleration
+     */
+    public void setMaxFactor (final double maxFactor)
+    {
+        this.flush ();
+        this.maxFactor = Math.max (1, maxFactor);
+    }
+
+
+    /**
+     * Is the acceleration enabled?
+     *
+     * @return True if the maximum factor is larger than 1
+     */
+    public boolean isEnabled ()
+    {
+        return this.maxFactor > 1;
+    }
+
+
+    /**
+     * Register a target, e.g. a parameter, which is changed by an encoder.
+     *
+     * @param target Applies a (summed up) change to the target
+     * @return The ID of the target
+     */
+    public int register (final DoubleConsumer target)
+    {
+        if (this.numTargets == this.targets.length)
+        {
+            final int capacity = 2 * this.targets.length;
+            this.targets = Arrays.copyOf (this.targets, capacity);
+            this.tickTimes = Arrays.copyOf (this.tickTimes, capacity * HISTORY);
+            this.tickPositions = Arrays.copyOf (this.tickPositions, capacity);
+            this.pendingChanges = Arrays.copyOf (this.pendingChanges, capacity);
+            this.isPending = Arrays.copyOf (this.isPending, capacity);
+            this.pendingIDs = Arrays.copyOf (this.pendingIDs, capacity);
+        }
+        this.targets[this.numTargets] = target;
+        return this.numTargets++;
+    }
+
+
+    /**
+     * Change a target by the change of an encoder tick.
+     *
+     * @param id The ID of the target
+     * @param change The change calculated from the tick without acceleration
+     * @param isAccelerated False to not accelerate the change, e.g. in slow mode
+     */
+    public void change (final int id, final double change, final boolean isAccelerated)
+    {
+        if (!this.isEnabled ())
+        {
+            this.targets[id].accept (change);
+            return;
+        }
+
+        final long now = System.nanoTime ();
+        final int offset = id * HISTORY;
+        final int position = this.tickPositions[id];
+        this.tickTimes[offset + position] = now;
+        this.tickPositions[id] = (position + 1) % HISTORY;
+
+        this.pendingChanges[id] += isAccelerated ? change * this.getFactor (offset, now) : change;
+        if (!this.isPending[id])
+        {
+            this.isPending[id] = true;
+            this.pendingIDs[this.numPending++] = id;
+        }
+    }
+
+
+    /**
+     * Apply all pending changes to their targets. Call on each flush.
+     */
+    public void flush ()
+    {
+        for (int i = 0; i < this.numPending; i++)
+        {
+            final int id = this.pendingIDs[i];
+            final double change = this.pendingChanges[id];
+            this.pendingChanges[id] = 0;
+            this.isPending[id] = false;
+            if (change != 0)
+                this.targets[id].accept (change);
+        }
+        this.numPending = 0;
+    }
+
+
+    /**
+     * Calculate the acceleration factor from the ticks in the time window.
+     *
+     * @param offset The offset of the ring buffer of the target
+     * @param now The time of the current tick
+     * @return The factor
+     */
+    private double getFactor (final int offset, final long now)
+    {
+        long oldest = now;
+        int count = 0;
+        for (int i = 0; i < HISTORY; i++)
+        {
+            final long time = this.tickTimes[offset + i];
+            if (time == 0 || now - time > WINDOW)
+                continue;
+            count++;
+            if (time < oldest)
+                oldest = time;
+        }
+        if (count < 2 || oldest == now)
+            return 1;
+
+        final double rate = (count - 1) * 1000000000.0 / (now - oldest);
+        final double normalized = Math.max (0, Math.min (1, (rate - MIN_RATE) / (MAX_RATE - MIN_RATE)));
+        return 1 + (this.maxFactor - 1) * normalized * normalized;
+    }
+}
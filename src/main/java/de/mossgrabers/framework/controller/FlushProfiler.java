@@ -0,0 +1,268 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Measures the time spent in the phases of the flush of a control surface. The durations are
+ * collected in histograms with buckets of doubling size (1, 2, 4, ... microseconds), which keeps
+ * the recording cheap and the memory constant. A summary with the number of calls, the average,
+ * the approximated 50th and 99th percentile and the maximum of each phase is printed periodically
+ * together with the rate of the registered counters. Phases can be nested, e.g. the display flush
+ * is also part of the total flush. If the profiler is disabled, only a flag is checked.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushProfiler
+{
+    /** The interval in milliseconds in which the summary is printed. */
+    private static final long REPORT_INTERVAL = 10000;
+    private static final int  NUM_BUCKETS     = 24;
+
+
+    /** The measured phases. */
+    public enum Phase
+    {
+        /** The complete flush of the surface. */
+        FLUSH("flush"),
+        /** Updating the surface by the active view. */
+        UPDATE_SURFACE("view"),
+        /** Updating the display by the active mode. */
+        UPDATE_DISPLAY("mode"),
+        /** Sending the display changes. */
+        DISPLAY_FLUSH("display"),
+        /** Drawing the pad grid by the active view. */
+        DRAW_GRID("grid"),
+        /** Sending the pad changes. */
+        PAD_FLUSH("pads"),
+        /** Sending the button LED changes. */
+        BUTTON_FLUSH("buttons"),
+        /** Sending data to USB or HID devices. */
+        USB("usb");
+
+
+        private final String label;
+
+
+        private Phase (final String label)
+        {
+            this.label = label;
+        }
+    }
+
+
+    private static class Counter
+    {
+        private final String       name;
+        private final LongSupplier supplier;
+        private long               lastValue;
+
+
+        Counter (final String name, final LongSupplier supplier)
+        {
+            this.name = name;
+            this.supplier = supplier;
+        }
+    }
+
+
+    private final IHost         host;
+    private final String        name;
+    private final long [] []    histograms = new long [Phase.values ().length] [NUM_BUCKETS];
+    private final long []       counts     = new long [Phase.values ().length];
+    private final long []       totals     = new long [Phase.values ().length];
+    private final long []       maxima     = new long [Phase.values ().length];
+    private final List<Counter> counters   = new ArrayList<> ();
+    private volatile boolean    isEnabled;
+    private long                lastReport;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for printing the summary
+     * @param name The name of the surface to display in the summary
+     */
+    public FlushProfiler (final IHost host, final String name)
+    {
+        this.host = host;
+        this.name = name;
+    }
+
+
+    /**
+     * Add a counter which is printed as part of the summary. The increase of the value per second
+     * since the last summary is printed.
+     *
+     * @param name The name of the counter
+     * @param supplier Supplies the current value of the counter
+     */
+    public synchronized void addCounter (final String name, final LongSupplier supplier)
+    {
+        this.counters.add (new Counter (name, supplier));
+    }
+
+
+    /**
+     * Enable or disable the profiling. Enabling starts a new measurement period.
+     *
+     * @param isEnabled True to enable
+     */
+    public synchronized void setEnabled (final boolean isEnabled)
+    {
+        if (this.isEnabled == isEnabled)
+            return;
+        if (isEnabled)
+            this.reset ();
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is the profiling enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Start the measurement of a phase.
+     *
+     * @return The start time to hand to {@link #stop(Phase, long)}, 0 if profiling is disabled
+     */
+    public long start ()
+    {
+        return this.isEnabled ? System.nanoTime () : 0;
+    }
+
+
+    /**
+     * Stop the measurement of a phase.
+     *
+     * @param phase The phase
+     * @param start The value returned from {@link #start()}
+     */
+    public void stop (final Phase phase, final long start)
+    {
+        if (start == 0)
+            return;
+
+        final long duration = System.nanoTime () - start;
+        final int index = phase.ordinal ();
+        synchronized (this)
+        {
+            this.histograms[index][getBucket (duration)]++;
+            this.counts[index]++;
+            this.totals[index] += duration;
+            if (duration > this.maxima[index])
+                this.maxima[index] = duration;
+        }
+    }
+
+
+    /**
+     * Call at the end of each flush. Prints the summary and starts a new measurement period if the
+     * report interval has passed.
+     */
+    public void endFrame ()
+    {
+        if (!this.isEnabled)
+            return;
+
+        final String summary;
+        synchronized (this)
+        {
+            if (System.nanoTime () - this.lastReport < REPORT_INTERVAL * 1000000L)
+                return;
+            summary = this.createSummary ();
+            this.reset ();
+        }
+        this.host.println (summary);
+    }
+
+
+    private String createSummary ()
+    {
+        final double seconds = (System.nanoTime () - this.lastReport) / 1000000000.0;
+        final StringBuilder sb = new StringBuilder (this.name).append (" flush profile:");
+        for (final Phase phase: Phase.values ())
+        {
+            final int index = phase.ordinal ();
+            final long count = this.counts[index];
+            if (count == 0)
+                continue;
+            sb.append ("\n  ").append (phase.label).append (": n=").append (count);
+            sb.append (" avg=").append (this.totals[index] / count / 1000).append ("us");
+            sb.append (" p50<=").append (this.getPercentile (index, 0.5)).append ("us");
+            sb.append (" p99<=").append (this.getPercentile (index, 0.99)).append ("us");
+            sb.append (" max=").append (this.maxima[index] / 1000).append ("us");
+        }
+        for (final Counter counter: this.counters)
+            sb.append ("\n  ").append (counter.name).append (": ").append (Math.round ((counter.supplier.getAsLong () - counter.lastValue) / seconds)).append ("/s");
+        return sb.toString ();
+    }
+
+
+    /**
+     * Get the upper bound of the bucket which contains the given percentile.
+     *
+     * @param index The index of the phase
+     * @param percentile The percentile in the range of [0..1]
+     * @return The upper bound in microseconds
+     */
+    private long getPercentile (final int index, final double percentile)
+    {
+        final long [] histogram = this.histograms[index];
+        final long threshold = (long) Math.ceil (this.counts[index] * percentile);
+        long sum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            sum += histogram[i];
+            if (sum >= threshold)
+                return 1L << i;
+        }
+        return 1L << NUM_BUCKETS - 1;
+    }
+
+
+    private void reset ()
+    {
+        for (final long [] histogram: this.histograms)
+            Arrays.fill (histogram, 0);
+        Arrays.fill (this.counts, 0);
+        Arrays.fill (this.totals, 0);
+        Arrays.fill (this.maxima, 0);
+        for (final Counter counter: this.counters)
+            counter.lastValue = counter.supplier.getAsLong ();
+        this.lastReport = System.nanoTime ();
+    }
+
+
+    /**
+     * Get the histogram bucket for a duration. Bucket i contains the durations up to 2^i
+     * microseconds.
+     *
+     * @param duration The duration in nanoseconds
+     * @return The index of the bucket
+     */
+    private static int getBucket (final long duration)
+    {
+        final long micros = duration / 1000;
+        if (micros <= 1)
+            return 0;
+        return Math.min (NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros (micros - 1));
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiCapture;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.view.ViewManager;
 
@@ -70,6 +71,22 @@ public interface IControlSurface<C extends Configuration>
     PadGrid getPadGrid ();
 
 
+    /**
+     * Get the profiler which measures the flush of the surface.
+     *
+     * @return The profiler
+     */
+    FlushProfiler getFlushProfiler ();
+
+
+    /**
+     * Get the capture of the received messages.
+     *
+     * @return The capture, null if the surface has no configuration
+     */
+    MidiCapture getMidiCapture ();
+
+
     /**
      * Get the midi output.
      *
@@ -379,9 +396,8 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. This
-     * method caches the state of the button and sends only updates to the controller if the state
-     * has changed, in contrast to setButton.
+     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. Same
+     * as setButton.
      *
      * @param button The button
      * @param value The color / brightness depending on the controller
@@ -390,9 +406,7 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light). This method caches the state of
-     * the button and sends only updates to the controller if the state has changed, in contrast to
-     * setButton.
+     * Update the lighting of a button (if the buttons has light). Same as setButtonEx.
      *
      * @param button The button
      * @param channel The midi channel to use
@@ -402,9 +416,8 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. This
-     * method caches the state of the button and sends only updates to the controller if the state
-     * has changed, in contrast to setButton.
+     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. Same
+     * as setButton.
      *
      * @param button The button
      * @param colorID A registered color ID of the color / brightness depending on the controller
@@ -413,9 +426,7 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light). This method caches the state of
-     * the button and sends only updates to the controller if the state has changed, in contrast to
-     * setButton.
+     * Update the lighting of a button (if the buttons has light). Same as setButtonEx.
      *
      * @param button The button
      * @param channel The midi channel to use
@@ -425,7 +436,9 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light), sending on midi channel 1.
+     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. The
+     * state is stored and sent to the controller with the next update of the button LEDs, if it
+     * differs from the state which was sent last.
      *
      * @param button The button
      * @param value The color / brightness depending on the controller
@@ -434,7 +447,9 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light), sending on midi channel 1.
+     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. The
+     * state is stored and sent to the controller with the next update of the button LEDs, if it
+     * differs from the state which was sent last.
      *
      * @param button The button
      * @param colorID A registered color ID of the color / brightness depending on the controller
@@ -443,7 +458,9 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light).
+     * Update the lighting of a button (if the buttons has light). The state is stored and sent to
+     * the controller with the next update of the button LEDs, if it differs from the state which
+     * was sent last.
      *
      * @param button The button
      * @param channel The midi channel to use
@@ -453,7 +470,9 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Update the lighting of a button (if the buttons has light).
+     * Update the lighting of a button (if the buttons has light). The state is stored and sent to
+     * the controller with the next update of the button LEDs, if it differs from the state which
+     * was sent last.
      *
      * @param button The button
      * @param channel The midi channel to use
@@ -463,7 +482,8 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Clear the cached lighting state of a button of MIDI channel 1.
+     * Clear the cached lighting state of a button of MIDI channel 1. The state is sent again with
+     * the next update of the button LEDs.
      *
      * @param button The button
      */
@@ -493,6 +513,23 @@ public interface IControlSurface<C extends Configuration>
     void clearFullButtonCache ();
 
 
+    /**
+     * Get the number of button LED messages which were sent to the controller.
+     *
+     * @return The number of messages
+     */
+    long getButtonMessageCount ();
+
+
+    /**
+     * Get the number of button LED updates which were not sent since the controller already
+     * displayed the state.
+     *
+     * @return The number of dropped updates
+     */
+    long getSkippedButtonUpdateCount ();
+
+
     /**
      * Check if the midi CC belongs to a button
      *
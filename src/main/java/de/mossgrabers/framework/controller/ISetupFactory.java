@@ -30,6 +30,15 @@ public interface ISetupFactory
     IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup);
 
 
+    /**
+     * Release a model which was created with createModel. The objects of the DAW which are shared
+     * between several models are released when they are no longer used by any model.
+     *
+     * @param model The model
+     */
+    void releaseModel (final IModel model);
+
+
     /**
      * Create the midi access object.
      *
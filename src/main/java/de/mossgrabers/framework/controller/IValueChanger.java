@@ -96,6 +96,14 @@ public interface IValueChanger
     double calcKnobSpeed (int control, double fractionValue);
 
 
+    /**
+     * Get the acceleration for relative changes of encoders.
+     *
+     * @return The acceleration
+     */
+    EncoderAcceleration getAcceleration ();
+
+
     /**
      * Change a value by the amount of the control speed. Uses the default fraction values
      * (depending on the slow setting) and upper bound. The lower bound is 0.
@@ -0,0 +1,142 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.Arrays;
+
+
+/**
+ * Sends the values of the DAW to motorized faders. Values are collected and sent with a fixed
+ * interval, all changes in between are merged into the latest value. Large moves are split into
+ * several steps to limit the speed of the motor. No values are sent to faders which are touched by
+ * the user, since the motor would fight against the hand. On release the fader is moved to the
+ * current value of the DAW. Values are set from the flush but sent from tasks of the host,
+ * therefore all methods are synchronized.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MotorFaders
+{
+    /** Interval in milliseconds in which the fader values are sent. */
+    private static final int         TICK = 20;
+
+    private final IControlSurface<?> surface;
+    private final FaderSender        sender;
+    private final int                maxStep;
+    private final int []             targetValues;
+    private final int []             sentValues;
+    private final boolean []         touched;
+    private boolean                  isTickScheduled;
+
+
+    /**
+     * Callback for sending a fader value to the device.
+     */
+    @FunctionalInterface
+    public interface FaderSender
+    {
+        /**
+         * Send the value of a fader.
+         *
+         * @param index The index of the fader
+         * @param value The value to send
+         */
+        void sendValue (int index, int value);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface to schedule the updates
+     * @param numFaders The number of faders
+     * @param maxStep The maximum value change of a fader per interval, 0 to not limit the speed
+     * @param sender Sends a fader value to the device
+     */
+    public MotorFaders (final IControlSurface<?> surface, final int numFaders, final int maxStep, final FaderSender sender)
+    {
+        this.surface = surface;
+        this.sender = sender;
+        this.maxStep = maxStep;
+
+        this.targetValues = new int [numFaders];
+        this.sentValues = new int [numFaders];
+        this.touched = new boolean [numFaders];
+        Arrays.fill (this.targetValues, -1);
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    /**
+     * Set the value to which a fader should be moved.
+     *
+     * @param index The index of the fader
+     * @param value The value
+     */
+    public synchronized void setValue (final int index, final int value)
+    {
+        this.targetValues[index] = value;
+        if (!this.touched[index] && this.sentValues[index] != value)
+            this.scheduleTick ();
+    }
+
+
+    /**
+     * Set the touch state of a fader.
+     *
+     * @param index The index of the fader
+     * @param isTouched True if touched by the user
+     */
+    public synchronized void setTouched (final int index, final boolean isTouched)
+    {
+        if (index < 0 || index >= this.touched.length || this.touched[index] == isTouched)
+            return;
+        this.touched[index] = isTouched;
+        if (isTouched)
+            return;
+
+        // The position of the fader is unknown after it was moved by the user
+        this.sentValues[index] = -1;
+        if (this.targetValues[index] >= 0)
+            this.scheduleTick ();
+    }
+
+
+    private void scheduleTick ()
+    {
+        if (this.isTickScheduled)
+            return;
+        this.isTickScheduled = true;
+        this.surface.scheduleTask (this::tick, TICK);
+    }
+
+
+    private synchronized void tick ()
+    {
+        this.isTickScheduled = false;
+
+        boolean isMoving = false;
+        for (int i = 0; i < this.targetValues.length; i++)
+        {
+            final int target = this.targetValues[i];
+            final int sent = this.sentValues[i];
+            if (this.touched[i] || target < 0 || target == sent)
+                continue;
+
+            int value = target;
+            if (sent >= 0 && this.maxStep > 0 && Math.abs (target - sent) > this.maxStep)
+            {
+                value = sent + (target > sent ? this.maxStep : -this.maxStep);
+                isMoving = true;
+            }
+
+            this.sentValues[i] = value;
+            this.sender.sendValue (i, value);
+        }
+
+        if (isMoving)
+            this.scheduleTick ();
+    }
+}
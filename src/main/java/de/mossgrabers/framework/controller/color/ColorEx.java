@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Objects;
+
+
 /**
  * Some helper constans for Color.
  *
@@ -197,4 +200,25 @@ public class ColorEx
     {
         return this.blueValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final ColorEx other = (ColorEx) obj;
+        return this.redValue == other.redValue && this.greenValue == other.greenValue && this.blueValue == other.blueValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return Objects.hash (Double.valueOf (this.redValue), Double.valueOf (this.greenValue), Double.valueOf (this.blueValue));
+    }
 }
@@ -4,6 +4,8 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import de.mossgrabers.framework.daw.DAWColors;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -52,4 +54,17 @@ public class ColorManager
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
         return colorIndex.intValue ();
     }
+
+
+    /**
+     * Get the color index for a RGB color. The default implementation uses the color index which is
+     * registered for the closest DAW color. Overwrite for devices which can display arbitrary colors.
+     *
+     * @param rgb The red, green and blue value
+     * @return The color index
+     */
+    public int getColor (final double [] rgb)
+    {
+        return this.getColor (DAWColors.getColorIndex (rgb));
+    }
 }
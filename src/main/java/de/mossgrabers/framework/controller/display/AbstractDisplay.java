@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation of a display.
@@ -29,9 +31,13 @@ public abstract class AbstractDisplay implements Display
     protected String        notificationMessage;
     protected boolean       isNotificationActive;
 
-    protected String []     currentMessage;
-    protected String []     message;
-    protected String []     cells;
+    protected char [] []    cells;
+    protected int []        cellLengths;
+    protected long []       dirtyCells;
+    protected char [] []    frame;
+    protected int []        frameLengths;
+    protected boolean []    dirtyRows;
+    protected boolean []    isComposed;
 
 
     /**
@@ -59,10 +65,17 @@ public abstract class AbstractDisplay implements Display
         this.notificationMessage = this.emptyLine;
         this.isNotificationActive = false;
 
-        this.currentMessage = new String [this.noOfLines];
-
-        this.message = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+        final int numCells = this.noOfLines * this.noOfCells;
+        this.cells = new char [numCells] [this.noOfCharacters / Math.max (1, this.noOfCells) + 1];
+        this.cellLengths = new int [numCells];
+        this.dirtyCells = new long [this.noOfLines];
+
+        this.frame = new char [this.noOfLines] [this.noOfCharacters];
+        this.frameLengths = new int [this.noOfLines];
+        this.dirtyRows = new boolean [this.noOfLines];
+        this.isComposed = new boolean [this.noOfLines];
+        // No content yet, nothing is sent before the first row is done
+        Arrays.fill (this.frameLengths, -1);
     }
 
 
@@ -70,11 +83,95 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay setRow (final int row, final String str)
     {
-        this.message[row] = str;
+        final int length = str == null ? 0 : str.length ();
+        final char [] line = this.ensureFrameCapacity (row, length);
+        boolean changed = this.frameLengths[row] != length;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = str.charAt (i);
+            if (line[i] != c)
+            {
+                line[i] = c;
+                changed = true;
+            }
+        }
+        this.frameLengths[row] = length;
+        this.isComposed[row] = false;
+        if (changed)
+            this.dirtyRows[row] = true;
         return this;
     }
 
 
+    /**
+     * Write the text of a cell into the cell buffer. The text is cut or padded with spaces to the
+     * given length.
+     *
+     * @param row The row of the cell
+     * @param cell The index of the cell in the row
+     * @param text The text, null is handled like an empty text
+     * @param length The length of the cell
+     */
+    protected void setCellText (final int row, final int cell, final String text, final int length)
+    {
+        this.setCellText (row, cell, text, 0, length, length);
+    }
+
+
+    /**
+     * Write the text of a cell into the cell buffer. The text is cut or padded with spaces to the
+     * text length, the rest of the cell is filled with spaces.
+     *
+     * @param row The row of the cell
+     * @param cell The index of the cell in the row
+     * @param text The text, null is handled like an empty text
+     * @param textLength The maximum number of characters to take from the text
+     * @param cellLength The length of the cell
+     */
+    protected void setCellText (final int row, final int cell, final String text, final int textLength, final int cellLength)
+    {
+        this.setCellText (row, cell, text, 0, textLength, cellLength);
+    }
+
+
+    /**
+     * Write a part of a text into the cell buffer. Only the characters which differ from the
+     * current content are written and the cell is marked as dirty if there was any change.
+     *
+     * @param row The row of the cell
+     * @param cell The index of the cell in the row
+     * @param text The text, null is handled like an empty text
+     * @param start The index of the first character to take from the text
+     * @param textLength The maximum number of characters to take from the text
+     * @param cellLength The length of the cell
+     */
+    protected void setCellText (final int row, final int cell, final String text, final int start, final int textLength, final int cellLength)
+    {
+        final int index = row * this.noOfCells + cell;
+        char [] buffer = this.cells[index];
+        if (buffer.length < cellLength)
+        {
+            buffer = Arrays.copyOf (buffer, cellLength);
+            this.cells[index] = buffer;
+        }
+
+        boolean changed = this.cellLengths[index] != cellLength;
+        final int available = text == null ? 0 : Math.max (0, Math.min (textLength, text.length () - start));
+        for (int i = 0; i < cellLength; i++)
+        {
+            final char c = i < available ? text.charAt (start + i) : ' ';
+            if (buffer[i] != c)
+            {
+                buffer[i] = c;
+                changed = true;
+            }
+        }
+        this.cellLengths[index] = cellLength;
+        if (changed)
+            this.dirtyCells[row] |= 1L << cell;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public AbstractDisplay clear ()
@@ -120,10 +217,37 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay done (final int row)
     {
+        // Only compose the row if a cell has changed or it was overwritten with setRow
+        if (this.dirtyCells[row] == 0 && this.isComposed[row])
+            return this;
+        this.dirtyCells[row] = 0;
+        this.isComposed[row] = true;
+
         final int index = row * this.noOfCells;
-        this.message[row] = "";
+        int length = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+            length += this.cellLengths[index + i];
+
+        final char [] line = this.ensureFrameCapacity (row, length);
+        boolean changed = this.frameLengths[row] != length;
+        int pos = 0;
         for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+        {
+            final char [] cell = this.cells[index + i];
+            final int cellLength = this.cellLengths[index + i];
+            for (int j = 0; j < cellLength; j++)
+            {
+                if (line[pos] != cell[j])
+                {
+                    line[pos] = cell[j];
+                    changed = true;
+                }
+                pos++;
+            }
+        }
+        this.frameLengths[row] = length;
+        if (changed)
+            this.dirtyRows[row] = true;
         return this;
     }
 
@@ -179,20 +303,40 @@ public abstract class AbstractDisplay implements Display
         for (int row = 0; row < this.noOfLines; row++)
         {
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            if (!this.dirtyRows[row] || this.frameLengths[row] < 0)
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
+            this.dirtyRows[row] = false;
+            this.writeLine (row, this.frame[row], this.frameLengths[row]);
         }
     }
 
 
+    /**
+     * Send a line to the display. Override to encode the characters directly from the frame
+     * buffer. The buffer must not be kept, since it is re-used for the next frame.
+     *
+     * @param row The row
+     * @param text The characters of the line
+     * @param length The number of characters of the line
+     */
+    protected void writeLine (final int row, final char [] text, final int length)
+    {
+        this.writeLine (row, new String (text, 0, length));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        Arrays.fill (this.dirtyRows, true);
+    }
+
+
+    private char [] ensureFrameCapacity (final int row, final int length)
+    {
+        if (this.frame[row].length < length)
+            this.frame[row] = Arrays.copyOf (this.frame[row], length);
+        return this.frame[row];
     }
 }
\ No newline at end of file
@@ -4,10 +4,13 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.observer.ItemSelectionObserver;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -24,8 +27,11 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
 {
     protected final IHost                      host;
     protected final List<T>                    items;
-    protected final Set<ItemSelectionObserver> observers = new HashSet<> ();
+    protected final Set<ItemSelectionObserver> observers     = new HashSet<> ();
     protected int                              pageSize;
+    private final BitSet                       selection     = new BitSet ();
+    private int                                selectedIndex = -1;
+    private List<T>                            selectedItems = Collections.emptyList ();
 
 
     /**
@@ -50,6 +56,40 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     }
 
 
+    /**
+     * Add an item to the page of the bank. The selection state of the item is tracked by the bank.
+     *
+     * @param item The item to add
+     */
+    protected void addItem (final T item)
+    {
+        this.items.add (item);
+        if (item instanceof AbstractItemImpl)
+            ((AbstractItemImpl) item).setSelectionObserver (this::handleItemSelection);
+    }
+
+
+    /**
+     * Handles selection changes of the items of the page. Updates the selection and notifies all
+     * registered selection observers.
+     *
+     * @param itemIndex The index of the item which selection state has changed
+     * @param isSelected True if selected otherwise false
+     */
+    protected void handleItemSelection (final int itemIndex, final boolean isSelected)
+    {
+        this.selection.set (itemIndex, isSelected);
+        this.selectedIndex = this.selection.nextSetBit (0);
+
+        final List<T> selected = new ArrayList<> (this.selection.cardinality ());
+        for (int i = this.selectedIndex; i >= 0; i = this.selection.nextSetBit (i + 1))
+            selected.add (this.items.get (i));
+        this.selectedItems = Collections.unmodifiableList (selected);
+
+        this.notifySelectionObservers (itemIndex, isSelected);
+    }
+
+
     /**
      * Notify all registered selection observers.
      *
@@ -75,13 +115,7 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     @Override
     public T getSelectedItem ()
     {
-        for (int i = 0; i < this.getPageSize (); i++)
-        {
-            final T item = this.getItem (i);
-            if (item.isSelected ())
-                return item;
-        }
-        return null;
+        return this.selectedIndex < 0 ? null : this.items.get (this.selectedIndex);
     }
 
 
@@ -89,14 +123,7 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     @Override
     public List<T> getSelectedItems ()
     {
-        final List<T> selection = new ArrayList<> ();
-        for (int i = 0; i < this.getPageSize (); i++)
-        {
-            final T item = this.getItem (i);
-            if (item.isSelected ())
-                selection.add (item);
-        }
-        return selection;
+        return this.selectedItems;
     }
 
 
@@ -6,9 +6,11 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.SubscriptionManager;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.HashMap;
@@ -23,30 +25,32 @@ import java.util.Map;
  */
 public abstract class AbstractModel implements IModel
 {
-    protected IHost              host;
-    protected IApplication       application;
-    protected IMixer             mixer;
-    protected ITransport         transport;
-    protected IGroove            groove;
-    protected IProject           project;
-    protected IBrowser           browser;
-    protected IArranger          arranger;
-    protected IMarkerBank        markerBank;
-    protected ITrackBank         currentTrackBank;
-    protected ITrackBank         trackBank;
-    protected ITrackBank         effectTrackBank;
-    protected IMasterTrack       masterTrack;
-    protected ICursorDevice      instrumentDevice;
-    protected ICursorDevice      cursorDevice;
-    protected ICursorDevice      drumDevice64;
-    protected Map<String, IClip> cursorClips = new HashMap<> ();
-
-    protected Scales             scales;
-    protected ColorManager       colorManager;
-    protected IValueChanger      valueChanger;
-    protected ModelSetup         modelSetup;
-
-    private int                  lastSelection;
+    protected IHost               host;
+    protected IApplication        application;
+    protected IMixer              mixer;
+    protected ITransport          transport;
+    protected IGroove             groove;
+    protected IProject            project;
+    protected IBrowser            browser;
+    protected IArranger           arranger;
+    protected IMarkerBank         markerBank;
+    protected IClipOccupancy      clipOccupancy;
+    protected ITrackBank          currentTrackBank;
+    protected ITrackBank          trackBank;
+    protected ITrackBank          effectTrackBank;
+    protected IMasterTrack        masterTrack;
+    protected ICursorDevice       instrumentDevice;
+    protected ICursorDevice       cursorDevice;
+    protected ICursorDevice       drumDevice64;
+    protected Map<String, IClip>  cursorClips         = new HashMap<> ();
+
+    protected Scales              scales;
+    protected ColorManager        colorManager;
+    protected IValueChanger       valueChanger;
+    protected ModelSetup          modelSetup;
+    protected SubscriptionManager subscriptionManager = new SubscriptionManager ();
+
+    private int                   lastSelection;
 
 
     /**
@@ -98,6 +102,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IClipOccupancy getClipOccupancy ()
+    {
+        return this.clipOccupancy;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMixer getMixer ()
@@ -154,6 +166,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public SubscriptionManager getSubscriptionManager ()
+    {
+        return this.subscriptionManager;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ICursorDevice getCursorDevice ()
@@ -306,6 +326,22 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void subscribeVuMeters (final boolean subscribe)
+    {
+        subscribeVuMeters (this.trackBank, subscribe);
+        subscribeVuMeters (this.effectTrackBank, subscribe);
+        if (this.masterTrack != null)
+            this.masterTrack.subscribeVuMeters (subscribe);
+        if (this.cursorDevice != null)
+        {
+            subscribeVuMeters (this.cursorDevice.getLayerBank (), subscribe);
+            subscribeVuMeters (this.cursorDevice.getDrumPadBank (), subscribe);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ISlot getSelectedSlot ()
@@ -332,4 +368,13 @@ public abstract class AbstractModel implements IModel
         }
         return false;
     }
+
+
+    private static void subscribeVuMeters (final IBank<? extends IChannel> bank, final boolean subscribe)
+    {
+        if (bank == null)
+            return;
+        for (int i = 0; i < bank.getPageSize (); i++)
+            bank.getItem (i).subscribeVuMeters (subscribe);
+    }
 }
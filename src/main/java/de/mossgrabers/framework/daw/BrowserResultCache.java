@@ -0,0 +1,201 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Caches the names of the browser results which were already received from the DAW. Since the DAW
+ * only provides a small window of the results, this allows to display and search the results
+ * without waiting for the DAW to scroll the window. The results are stored separately for each
+ * filter set (the combination of content type and the selected filter items). The least recently
+ * used filter sets are dropped. A trigram index is kept for each filter set to quickly find the
+ * results which contain a text.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserResultCache
+{
+    private static final int                    MAX_FILTER_SETS = 8;
+    private static final int                    MAX_RESULTS     = 10000;
+
+    private final Map<String, FilterSetResults> filterSets      = new LinkedHashMap<> (MAX_FILTER_SETS, 0.75f, true);
+    private String                              filterKey;
+    private FilterSetResults                    results;
+
+
+    /**
+     * Set the active filter set. All further calls refer to the results of this filter set.
+     *
+     * @param filterKey A text which identifies the filter set
+     * @return True if the filter set has changed
+     */
+    public boolean setFilter (final String filterKey)
+    {
+        if (filterKey.equals (this.filterKey))
+            return false;
+        this.filterKey = filterKey;
+        this.results = this.filterSets.computeIfAbsent (filterKey, key -> new FilterSetResults ());
+
+        // Drop the least recently used filter set
+        if (this.filterSets.size () > MAX_FILTER_SETS)
+        {
+            final Iterator<String> iterator = this.filterSets.keySet ().iterator ();
+            iterator.next ();
+            iterator.remove ();
+        }
+        return true;
+    }
+
+
+    /**
+     * Store the name of a result.
+     *
+     * @param position The position of the result in the list of all results
+     * @param name The name of the result
+     */
+    public void put (final int position, final String name)
+    {
+        if (this.results != null && position >= 0 && position < MAX_RESULTS && name != null && !name.isEmpty ())
+            this.results.put (position, name);
+    }
+
+
+    /**
+     * Get the name of a result.
+     *
+     * @param position The position of the result in the list of all results
+     * @return The name or null if it was not received yet
+     */
+    public String get (final int position)
+    {
+        if (this.results == null || position < 0 || position >= this.results.names.size ())
+            return null;
+        return this.results.names.get (position);
+    }
+
+
+    /**
+     * Check if all results of a page were already received.
+     *
+     * @param start The position of the first result of the page
+     * @param size The number of results on the page
+     * @return True if all results are available
+     */
+    public boolean isCached (final int start, final int size)
+    {
+        for (int i = start; i < start + size; i++)
+        {
+            if (this.get (i) == null)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Find the next result which starts with a text. If there is none, the next result which
+     * contains the text is returned. The search is not case sensitive and wraps around at the end
+     * of the results.
+     *
+     * @param text The text to search for
+     * @param start The position where to start the search
+     * @return The position of the result or -1 if no received result matches
+     */
+    public int find (final String text, final int start)
+    {
+        if (this.results == null || text == null || text.isEmpty ())
+            return -1;
+
+        final String query = text.toLowerCase (Locale.US);
+        final int size = this.results.names.size ();
+        final BitSet candidates = this.results.getCandidates (query);
+
+        int contains = -1;
+        for (int i = 0; i < size; i++)
+        {
+            final int position = (Math.max (0, start) + i) % size;
+            if (candidates != null && !candidates.get (position))
+                continue;
+            final String name = this.results.lowerNames.get (position);
+            if (name == null)
+                continue;
+            if (name.startsWith (query))
+                return position;
+            if (contains < 0 && name.contains (query))
+                contains = position;
+        }
+        return contains;
+    }
+
+
+    /** The received results of one filter set. */
+    private static class FilterSetResults
+    {
+        private final List<String>        names      = new ArrayList<> ();
+        private final List<String>        lowerNames = new ArrayList<> ();
+        private final Map<String, BitSet> trigrams   = new HashMap<> ();
+
+
+        /**
+         * Store the name of a result and add it to the index.
+         *
+         * @param position The position of the result
+         * @param name The name of the result
+         */
+        void put (final int position, final String name)
+        {
+            while (this.names.size () <= position)
+            {
+                this.names.add (null);
+                this.lowerNames.add (null);
+            }
+
+            if (name.equals (this.names.get (position)))
+                return;
+
+            // Trigrams of a replaced name stay in the index, the candidates are checked anyway
+            final String lowerName = name.toLowerCase (Locale.US);
+            this.names.set (position, name);
+            this.lowerNames.set (position, lowerName);
+            for (int i = 0; i + 3 <= lowerName.length (); i++)
+                this.trigrams.computeIfAbsent (lowerName.substring (i, i + 3), key -> new BitSet ()).set (position);
+        }
+
+
+        /**
+         * Get the positions of the results which contain all trigrams of the query.
+         *
+         * @param query The lower case query
+         * @return The positions or null if the query is too short to use the index
+         */
+        BitSet getCandidates (final String query)
+        {
+            if (query.length () < 3)
+                return null;
+
+            final BitSet candidates = new BitSet ();
+            for (int i = 0; i + 3 <= query.length (); i++)
+            {
+                final BitSet positions = this.trigrams.get (query.substring (i, i + 3));
+                if (positions == null)
+                    return new BitSet ();
+                if (i == 0)
+                    candidates.or (positions);
+                else
+                    candidates.and (positions);
+            }
+            return candidates;
+        }
+    }
+}
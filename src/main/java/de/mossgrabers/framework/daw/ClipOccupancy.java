@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.BitSet;
+
+
+/**
+ * Index of the clips of a fixed number of tracks and scenes. The content, playing and recording
+ * states are stored as one bitmap per track, which is updated incrementally by the DAW specific
+ * implementation. Additionally, the number of clips of each scene is counted to quickly find scenes
+ * with content. Since the index observes a lot of slots, its observers should only be enabled
+ * while it is used.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class ClipOccupancy implements IClipOccupancy
+{
+    private final BitSet [] content;
+    private final BitSet [] playing;
+    private final BitSet [] recording;
+    private final int []    sceneClips;
+    private int             trackCount;
+    private int             sceneCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numTracks The maximum number of tracks covered by the index
+     * @param numScenes The maximum number of scenes covered by the index
+     */
+    public ClipOccupancy (final int numTracks, final int numScenes)
+    {
+        this.content = new BitSet [numTracks];
+        this.playing = new BitSet [numTracks];
+        this.recording = new BitSet [numTracks];
+        for (int i = 0; i < numTracks; i++)
+        {
+            this.content[i] = new BitSet (numScenes);
+            this.playing[i] = new BitSet (numScenes);
+            this.recording[i] = new BitSet (numScenes);
+        }
+        this.sceneClips = new int [numScenes];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumTracks ()
+    {
+        return Math.min (this.trackCount, this.content.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumScenes ()
+    {
+        return Math.min (this.sceneCount, this.sceneClips.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent (final int track, final int scene)
+    {
+        return track >= 0 && track < this.content.length && scene >= 0 && this.content[track].get (scene);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int countClips (final int fromTrack, final int toTrack, final int fromScene, final int toScene)
+    {
+        int count = 0;
+        final int end = Math.min (toTrack, this.getNumTracks ());
+        for (int t = Math.max (0, fromTrack); t < end; t++)
+        {
+            final BitSet clips = this.content[t];
+            for (int s = clips.nextSetBit (Math.max (0, fromScene)); s >= 0 && s < toScene; s = clips.nextSetBit (s + 1))
+                count++;
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying (final int fromTrack, final int toTrack, final int fromScene, final int toScene)
+    {
+        return this.isAnySet (this.playing, fromTrack, toTrack, fromScene, toScene);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording (final int fromTrack, final int toTrack, final int fromScene, final int toScene)
+    {
+        return this.isAnySet (this.recording, fromTrack, toTrack, fromScene, toScene);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int findNextScene (final int scene)
+    {
+        final int numScenes = this.getNumScenes ();
+        for (int s = Math.max (0, scene + 1); s < numScenes; s++)
+        {
+            if (this.sceneClips[s] > 0)
+                return s;
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int findPreviousScene (final int scene)
+    {
+        for (int s = Math.min (scene, this.getNumScenes ()) - 1; s >= 0; s--)
+        {
+            if (this.sceneClips[s] > 0)
+                return s;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Set the number of tracks of the project.
+     *
+     * @param trackCount The number of tracks
+     */
+    public void setTrackCount (final int trackCount)
+    {
+        this.trackCount = trackCount;
+    }
+
+
+    /**
+     * Set the number of scenes of the project.
+     *
+     * @param sceneCount The number of scenes
+     */
+    public void setSceneCount (final int sceneCount)
+    {
+        this.sceneCount = sceneCount;
+    }
+
+
+    /**
+     * Set if a slot contains a clip.
+     *
+     * @param track The index of the track
+     * @param scene The index of the scene
+     * @param hasContent True if the slot has content
+     */
+    public void setContent (final int track, final int scene, final boolean hasContent)
+    {
+        if (this.content[track].get (scene) == hasContent)
+            return;
+        this.content[track].set (scene, hasContent);
+        this.sceneClips[scene] += hasContent ? 1 : -1;
+    }
+
+
+    /**
+     * Set if the clip of a slot is playing.
+     *
+     * @param track The index of the track
+     * @param scene The index of the scene
+     * @param isPlaying True if playing
+     */
+    public void setPlaying (final int track, final int scene, final boolean isPlaying)
+    {
+        this.playing[track].set (scene, isPlaying);
+    }
+
+
+    /**
+     * Set if the clip of a slot is recording.
+     *
+     * @param track The index of the track
+     * @param scene The index of the scene
+     * @param isRecording True if recording
+     */
+    public void setRecording (final int track, final int scene, final boolean isRecording)
+    {
+        this.recording[track].set (scene, isRecording);
+    }
+
+
+    private boolean isAnySet (final BitSet [] states, final int fromTrack, final int toTrack, final int fromScene, final int toScene)
+    {
+        final int end = Math.min (toTrack, this.getNumTracks ());
+        for (int t = Math.max (0, fromTrack); t < end; t++)
+        {
+            final int s = states[t].nextSetBit (Math.max (0, fromScene));
+            if (s >= 0 && s < toScene)
+                return true;
+        }
+        return false;
+    }
+}
@@ -56,7 +56,7 @@ public interface IBank<T> extends ObserverManagement
     /**
      * Returns a list with the selected items in the current page.
      *
-     * @return The list is empty if none is selected.
+     * @return The list is empty if none is selected. The list must not be modified.
      */
     List<T> getSelectedItems ();
 
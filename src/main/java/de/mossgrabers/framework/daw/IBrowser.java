@@ -232,6 +232,34 @@ public interface IBrowser extends ObserverManagement
     String getSelectedResult ();
 
 
+    /**
+     * Get the position of the selected result in the list of all results. The position already
+     * includes selection changes which were not yet confirmed by the DAW.
+     *
+     * @return The position or -1 if unknown
+     */
+    int getSelectedResultPosition ();
+
+
+    /**
+     * Get the name of a result from the results which were already received from the DAW.
+     *
+     * @param position The position of the result in the list of all results
+     * @return The name or null if the result was not received yet
+     */
+    String getResultName (final int position);
+
+
+    /**
+     * Select the next result which starts with or contains the given text. Only the results which
+     * were already received from the DAW are searched.
+     *
+     * @param text The text to search for
+     * @return True if a matching result was found
+     */
+    boolean selectResult (final String text);
+
+
     /**
      * Get the number of results to display on a page.
      *
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.ObserverManagement;
+
+
+/**
+ * Interface to an index of the clips of all tracks and scenes of the project, independent from the
+ * page which is currently shown by the track and scene banks. Areas are given with the first track
+ * and scene (inclusive) and the last track and scene (exclusive).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IClipOccupancy extends ObserverManagement
+{
+    /**
+     * Get the number of tracks which are covered by the index. This is the number of tracks of the
+     * project but not more than the size of the index.
+     *
+     * @return The number of tracks
+     */
+    int getNumTracks ();
+
+
+    /**
+     * Get the number of scenes which are covered by the index. This is the number of scenes of the
+     * project but not more than the size of the index.
+     *
+     * @return The number of scenes
+     */
+    int getNumScenes ();
+
+
+    /**
+     * Check if a slot contains a clip.
+     *
+     * @param track The position of the track
+     * @param scene The position of the scene
+     * @return True if the slot has content
+     */
+    boolean hasContent (int track, int scene);
+
+
+    /**
+     * Count the clips in an area.
+     *
+     * @param fromTrack The position of the first track
+     * @param toTrack The position of the track after the last one
+     * @param fromScene The position of the first scene
+     * @param toScene The position of the scene after the last one
+     * @return The number of clips
+     */
+    int countClips (int fromTrack, int toTrack, int fromScene, int toScene);
+
+
+    /**
+     * Check if a clip is playing in an area.
+     *
+     * @param fromTrack The position of the first track
+     * @param toTrack The position of the track after the last one
+     * @param fromScene The position of the first scene
+     * @param toScene The position of the scene after the last one
+     * @return True if at least one clip is playing
+     */
+    boolean isPlaying (int fromTrack, int toTrack, int fromScene, int toScene);
+
+
+    /**
+     * Check if a clip is recording in an area.
+     *
+     * @param fromTrack The position of the first track
+     * @param toTrack The position of the track after the last one
+     * @param fromScene The position of the first scene
+     * @param toScene The position of the scene after the last one
+     * @return True if at least one clip is recording
+     */
+    boolean isRecording (int fromTrack, int toTrack, int fromScene, int toScene);
+
+
+    /**
+     * Find the next scene after the given one which contains at least one clip.
+     *
+     * @param scene The position of the scene from which to start
+     * @return The position of the found scene or -1 if there is none
+     */
+    int findNextScene (int scene);
+
+
+    /**
+     * Find the previous scene before the given one which contains at least one clip.
+     *
+     * @param scene The position of the scene from which to start
+     * @return The position of the found scene or -1 if there is none
+     */
+    int findPreviousScene (int scene);
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.SubscriptionManager;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -59,6 +60,14 @@ public interface IModel
     IMarkerBank getMarkerBank ();
 
 
+    /**
+     * Get the index of all clips of the project.
+     *
+     * @return The index or null if not configured in the model setup
+     */
+    IClipOccupancy getClipOccupancy ();
+
+
     /**
      * Get the mixer.
      *
@@ -107,6 +116,14 @@ public interface IModel
     Scales getScales ();
 
 
+    /**
+     * Get the manager for the observers which are only enabled while a mode or view reads them.
+     *
+     * @return The subscription manager
+     */
+    SubscriptionManager getSubscriptionManager ();
+
+
     /**
      * True if there is a selected device.
      *
@@ -210,6 +227,15 @@ public interface IModel
     ISceneBank createSceneBank (final int numScenes);
 
 
+    /**
+     * Add or remove a subscriber to the VU meters of all channels of the model (tracks, effect
+     * tracks, master track, device layers and drum pads).
+     *
+     * @param subscribe True to add, false to remove a subscriber
+     */
+    void subscribeVuMeters (boolean subscribe);
+
+
     /**
      * Check if any of the tracks is soloed.
      *
@@ -325,4 +351,12 @@ public interface IModel
      * @return The slot or null
      */
     ISlot getSelectedSlot ();
+
+
+    /**
+     * Has the DAW reported the values of the model at least once after the initialisation?
+     *
+     * @return True if the model is ready
+     */
+    boolean isReady ();
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class ModelSetup
     private boolean hasFlatTrackList       = true;
     private boolean hasFullFlatTrackList   = false;
     private int     numMarkers             = 0;
+    private int     numOccupancyTracks     = 0;
+    private int     numOccupancyScenes     = 0;
 
 
     /**
@@ -297,4 +299,40 @@ public class ModelSetup
     {
         this.numMarkers = numMarkers;
     }
+
+
+    /**
+     * Get the number of tracks covered by the clip occupancy index.
+     *
+     * @return The number of tracks, 0 if there is no index
+     */
+    public int getNumOccupancyTracks ()
+    {
+        return this.numOccupancyTracks;
+    }
+
+
+    /**
+     * Get the number of scenes covered by the clip occupancy index.
+     *
+     * @return The number of scenes, 0 if there is no index
+     */
+    public int getNumOccupancyScenes ()
+    {
+        return this.numOccupancyScenes;
+    }
+
+
+    /**
+     * Set the size of the clip occupancy index, which monitors the clips of the whole project. Each
+     * slot is observed, therefore keep it as small as possible.
+     *
+     * @param numOccupancyTracks The number of tracks, 0 for no index
+     * @param numOccupancyScenes The number of scenes, 0 for no index
+     */
+    public void setOccupancySize (final int numOccupancyTracks, final int numOccupancyScenes)
+    {
+        this.numOccupancyTracks = numOccupancyTracks;
+        this.numOccupancyScenes = numOccupancyScenes;
+    }
 }
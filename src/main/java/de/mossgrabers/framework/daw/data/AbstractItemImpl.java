@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.observer.ItemSelectionObserver;
+
+
 /**
  * An item.
  *
@@ -11,8 +14,9 @@ package de.mossgrabers.framework.daw.data;
  */
 public abstract class AbstractItemImpl implements IItem
 {
-    protected final int index;
-    private boolean     selected;
+    protected final int           index;
+    private boolean               selected;
+    private ItemSelectionObserver selectionObserver;
 
 
     /**
@@ -46,7 +50,23 @@ public abstract class AbstractItemImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        if (this.selectionObserver != null)
+            this.selectionObserver.call (this.index, isSelected);
+    }
+
+
+    /**
+     * Set an observer which is notified if the selection state of the item changes. Used by the
+     * bank which contains the item to track its selection.
+     *
+     * @param selectionObserver The observer
+     */
+    public void setSelectionObserver (final ItemSelectionObserver selectionObserver)
+    {
+        this.selectionObserver = selectionObserver;
     }
 
 
@@ -185,6 +185,14 @@ public class EmptyChannelData implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void subscribeVuMeters (final boolean subscribe)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getIndex ()
@@ -96,4 +96,14 @@ public interface IBrowserColumn extends IItem
      * @param index The new index
      */
     void setCursorIndex (int index);
+
+
+    /**
+     * Select the next item which starts with or contains the given text. Only the items which were
+     * already received from the DAW are searched.
+     *
+     * @param text The text to search for
+     * @return True if a matching item was found
+     */
+    boolean selectItem (String text);
 }
\ No newline at end of file
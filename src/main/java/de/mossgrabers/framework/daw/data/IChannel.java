@@ -273,6 +273,15 @@ public interface IChannel extends IItem
     int getVuRight ();
 
 
+    /**
+     * Add or remove a subscriber to the VU meters of the channel. The meters are only updated while
+     * there is at least one subscriber. Otherwise, they report 0.
+     *
+     * @param subscribe True to add, false to remove a subscriber
+     */
+    void subscribeVuMeters (boolean subscribe);
+
+
     /**
      * Delete the channel.
      */
@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+/**
+ * The VU meters of a channel. The meters are only active if there is at least one subscriber and
+ * the observers of the channel are enabled. Several surfaces which display the meters of the same
+ * channel share one subscription. While inactive, received meter values are dropped and the meters
+ * report 0.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterSource
+{
+    private final int        maxResolution;
+
+    private int              subscribers;
+    private boolean          isEnabled = true;
+    private volatile boolean isActive;
+    private volatile int     left;
+    private volatile int     right;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxResolution The maximum resolution of the received meter values
+     */
+    public VuMeterSource (final int maxResolution)
+    {
+        this.maxResolution = maxResolution;
+    }
+
+
+    /**
+     * Add or remove a subscriber.
+     *
+     * @param subscribe True to add, false to remove a subscriber
+     */
+    public synchronized void subscribe (final boolean subscribe)
+    {
+        if (subscribe)
+            this.subscribers++;
+        else if (this.subscribers > 0)
+            this.subscribers--;
+        this.updateActive ();
+    }
+
+
+    /**
+     * Dis-/Enable the meters together with the other observers of the channel.
+     *
+     * @param enable True to enable
+     */
+    public synchronized void enableObservers (final boolean enable)
+    {
+        this.isEnabled = enable;
+        this.updateActive ();
+    }
+
+
+    /**
+     * Are the meters active?
+     *
+     * @return True if there is at least one subscriber and the observers are enabled
+     */
+    public boolean isActive ()
+    {
+        return this.isActive;
+    }
+
+
+    /**
+     * Handle a new value of the left meter.
+     *
+     * @param value The value
+     */
+    public void handleLeft (final int value)
+    {
+        if (this.isActive)
+            this.left = this.limit (value);
+    }
+
+
+    /**
+     * Handle a new value of the right meter.
+     *
+     * @param value The value
+     */
+    public void handleRight (final int value)
+    {
+        if (this.isActive)
+            this.right = this.limit (value);
+    }
+
+
+    /**
+     * Get the value of the left meter.
+     *
+     * @return The value in the range of the maximum resolution
+     */
+    public int getLeft ()
+    {
+        return this.left;
+    }
+
+
+    /**
+     * Get the value of the right meter.
+     *
+     * @return The value in the range of the maximum resolution
+     */
+    public int getRight ()
+    {
+        return this.right;
+    }
+
+
+    private void updateActive ()
+    {
+        final boolean active = this.isEnabled && this.subscribers > 0;
+        if (this.isActive == active)
+            return;
+        this.isActive = active;
+        if (active)
+            return;
+        this.left = 0;
+        this.right = 0;
+    }
+
+
+    private int limit (final int value)
+    {
+        // Limit value to the maximum due to
+        // https://github.com/teotigraphix/Framework4Bitwig/issues/98
+        return value >= this.maxResolution ? this.maxResolution - 1 : value;
+    }
+}
@@ -4,13 +4,167 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
 /**
- * An abstract implementation for a midi output
+ * An abstract implementation for a midi output. Counts the sent messages and bytes and optionally
+ * limits the bandwidth with a token bucket. Messages which exceed the bandwidth are queued and
+ * sent as soon as there are enough tokens. While queued, a short message is replaced by a newer
+ * one with the same status and first data byte (e.g. the same CC on the same channel), therefore
+ * only the last value is sent. Note off messages replace note on messages of the same note and
+ * vice versa. Channel aftertouch is merged per upper nibble of the first data byte, since meters
+ * (e.g. of MCU) encode the strip in it. System exclusive messages and ordered CCs (e.g.
+ * multiplexed messages) are never merged.
+ * <p>
+ * Furthermore, messages can be collected in a batch, e.g. during the flush of a surface. Short
+ * messages of the batch are merged in the same way as queued messages, all messages are sent when
+ * the batch ends. The messages of the batch are sent in the order of their last update. Only the
+ * messages of the thread which started the batch are collected, other threads (e.g. tasks which
+ * update a display) send their messages directly.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    /** The tokens of a full bucket in milliseconds of the bandwidth, limits the size of a burst. */
+    private static final int                  BURST_DURATION = 100;
+
+    private final Map<Integer, QueuedMessage> queue          = new LinkedHashMap<> ();
+    private final Map<Integer, QueuedMessage> batch          = new LinkedHashMap<> ();
+    private int                               batchDepth;
+    private Thread                            batchThread;
+    private int                               nextUniqueKey  = -1;
+    private int                               bytesPerSecond;
+    private double                            tokens;
+    private long                              lastRefill;
+    private boolean                           isDrainScheduled;
+    private long                              messageCount;
+    private long                              byteCount;
+    private long                              coalescedMessageCount;
+
+
+    /**
+     * A message which waits for the end of the batch or for bandwidth.
+     */
+    private static class QueuedMessage
+    {
+        private int     status;
+        private int     data1;
+        private int     data2;
+        private byte [] sysex;
+        private String  sysexText;
+        private int     size;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void setThrottle (final int bytesPerSecond)
+    {
+        this.bytesPerSecond = Math.max (0, bytesPerSecond);
+        this.tokens = this.getBucketSize ();
+        this.lastRefill = System.nanoTime ();
+        this.drain ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long getMessageCount ()
+    {
+        return this.messageCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long getByteCount ()
+    {
+        return this.byteCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long getCoalescedMessageCount ()
+    {
+        return this.coalescedMessageCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void beginBatch ()
+    {
+        final Thread thread = Thread.currentThread ();
+        if (this.batchDepth == 0)
+            this.batchThread = thread;
+        else if (this.batchThread != thread)
+            return;
+        this.batchDepth++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void endBatch ()
+    {
+        if (!this.isBatching () || --this.batchDepth > 0)
+            return;
+        this.batchThread = null;
+
+        for (final Map.Entry<Integer, QueuedMessage> entry: this.batch.entrySet ())
+        {
+            final QueuedMessage message = entry.getValue ();
+            if (this.consumeTokens (message.size))
+                this.write (message);
+            else
+                this.enqueue (entry.getKey (), message);
+        }
+        this.batch.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendSysex (final byte [] data)
+    {
+        if (!this.isBatching () && this.consumeTokens (data.length))
+        {
+            this.writeSysex (data);
+            this.countMessage (data.length);
+            return;
+        }
+
+        final QueuedMessage message = new QueuedMessage ();
+        message.sysex = data;
+        message.size = data.length;
+        this.postpone (this.createUniqueKey (), message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendSysex (final String data)
+    {
+        final int size = countHexBytes (data);
+        if (!this.isBatching () && this.consumeTokens (size))
+        {
+            this.writeSysex (data);
+            this.countMessage (size);
+            return;
+        }
+
+        final QueuedMessage message = new QueuedMessage ();
+        message.sysexText = data;
+        message.size = size;
+        this.postpone (this.createUniqueKey (), message);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
@@ -27,6 +181,30 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendOrderedCC (final int... ccAndValues)
+    {
+        for (int i = 0; i + 1 < ccAndValues.length; i += 2)
+        {
+            // Queued messages are always sent first, therefore the order is kept
+            if (!this.isBatching () && this.consumeTokens (3))
+            {
+                this.writeMidiShort (0xB0, ccAndValues[i], ccAndValues[i + 1]);
+                this.countMessage (3);
+                continue;
+            }
+
+            final QueuedMessage message = new QueuedMessage ();
+            message.status = 0xB0;
+            message.data1 = ccAndValues[i];
+            message.data2 = ccAndValues[i + 1];
+            message.size = 3;
+            this.postpone (this.createUniqueKey (), message);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendNote (final int note, final int velocity)
@@ -92,11 +270,262 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
 
 
     /**
-     * Sends a MIDI message to the hardware device.
+     * Sends a MIDI message to the hardware device. The message is collected if a batch is active
+     * or queued if it exceeds the bandwidth.
      *
      * @param status the status byte of the MIDI message
      * @param data1 the data1 part of the MIDI message
      * @param data2 the data2 part of the MIDI message
      */
-    protected abstract void sendMidiShort (final int status, final int data1, final int data2);
+    protected synchronized void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        if (!this.isBatching ())
+        {
+            // The value is newer than the one in the batch of another thread
+            if (!this.batch.isEmpty () && this.batch.remove (Integer.valueOf (getKey (status, data1))) != null)
+                this.coalescedMessageCount++;
+
+            if (this.consumeTokens (3))
+            {
+                this.writeMidiShort (status, data1, data2);
+                this.countMessage (3);
+                return;
+            }
+        }
+
+        final QueuedMessage message = new QueuedMessage ();
+        message.status = status;
+        message.data1 = data1;
+        message.data2 = data2;
+        message.size = 3;
+        this.postpone (Integer.valueOf (getKey (status, data1)), message);
+    }
+
+
+    /**
+     * Writes a MIDI message to the port of the hardware device.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     */
+    protected abstract void writeMidiShort (final int status, final int data1, final int data2);
+
+
+    /**
+     * Writes a system exclusive message to the port of the hardware device.
+     *
+     * @param data The data to send
+     */
+    protected abstract void writeSysex (final byte [] data);
+
+
+    /**
+     * Writes a system exclusive message to the port of the hardware device.
+     *
+     * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    protected abstract void writeSysex (final String data);
+
+
+    /**
+     * Schedule a task on the thread which sends the midi data.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     */
+    protected abstract void scheduleTask (final Runnable task, final long delay);
+
+
+    /**
+     * Checks if a message of the given size can be sent. A message can be sent if the bucket is
+     * not empty. Its size is subtracted afterwards, which allows a large system exclusive message
+     * to borrow tokens from the following interval. Queued messages are always sent first.
+     *
+     * @param size The number of bytes of the message
+     * @return True if the message can be sent immediately
+     */
+    private boolean consumeTokens (final int size)
+    {
+        if (this.bytesPerSecond == 0)
+            return true;
+        if (!this.queue.isEmpty ())
+            return false;
+        this.refill ();
+        if (this.tokens <= 0)
+            return false;
+        this.tokens -= size;
+        return true;
+    }
+
+
+    private void refill ()
+    {
+        final long now = System.nanoTime ();
+        this.tokens = Math.min (this.getBucketSize (), this.tokens + (now - this.lastRefill) * this.bytesPerSecond / 1000000000.0);
+        this.lastRefill = now;
+    }
+
+
+    private double getBucketSize ()
+    {
+        return this.bytesPerSecond * BURST_DURATION / 1000.0;
+    }
+
+
+    /**
+     * Add a message to the active batch or to the queue which waits for bandwidth.
+     *
+     * @param key The key of the message
+     * @param message The message
+     */
+    private void postpone (final Integer key, final QueuedMessage message)
+    {
+        if (!this.isBatching ())
+        {
+            this.enqueue (key, message);
+            return;
+        }
+
+        // Move an updated message to the end to keep the order of the last updates
+        if (this.batch.remove (key) != null)
+            this.coalescedMessageCount++;
+        this.batch.put (key, message);
+    }
+
+
+    /**
+     * Check if the current thread collects its messages in a batch.
+     *
+     * @return True if a batch was started by the current thread
+     */
+    private boolean isBatching ()
+    {
+        return this.batchDepth > 0 && this.batchThread == Thread.currentThread ();
+    }
+
+
+    private void enqueue (final Integer key, final QueuedMessage message)
+    {
+        if (this.queue.put (key, message) != null)
+            this.coalescedMessageCount++;
+        this.scheduleDrain ();
+    }
+
+
+    private void scheduleDrain ()
+    {
+        if (this.isDrainScheduled)
+            return;
+        this.isDrainScheduled = true;
+        // Wait until the bucket contains at least one token again
+        final long delay = this.tokens >= 0 ? 1 : (long) Math.ceil (-this.tokens * 1000.0 / this.bytesPerSecond) + 1;
+        this.scheduleTask (this::handleDrain, delay);
+    }
+
+
+    private synchronized void handleDrain ()
+    {
+        this.isDrainScheduled = false;
+        this.drain ();
+    }
+
+
+    /**
+     * Send the queued messages as long as there is bandwidth left. Sends all messages if the
+     * throttle is disabled.
+     */
+    private void drain ()
+    {
+        if (this.queue.isEmpty ())
+            return;
+
+        if (this.bytesPerSecond > 0)
+            this.refill ();
+        final Iterator<QueuedMessage> iterator = this.queue.values ().iterator ();
+        while (iterator.hasNext ())
+        {
+            if (this.bytesPerSecond > 0 && this.tokens <= 0)
+            {
+                this.scheduleDrain ();
+                return;
+            }
+
+            final QueuedMessage message = iterator.next ();
+            iterator.remove ();
+            this.write (message);
+            this.tokens -= message.size;
+        }
+    }
+
+
+    private void write (final QueuedMessage message)
+    {
+        if (message.sysex != null)
+            this.writeSysex (message.sysex);
+        else if (message.sysexText != null)
+            this.writeSysex (message.sysexText);
+        else
+            this.writeMidiShort (message.status, message.data1, message.data2);
+        this.countMessage (message.size);
+    }
+
+
+    private void countMessage (final int size)
+    {
+        this.messageCount++;
+        this.byteCount += size;
+    }
+
+
+    private Integer createUniqueKey ()
+    {
+        // Messages which are never merged use negative keys, which never collide with the keys of
+        // short messages
+        final Integer key = Integer.valueOf (this.nextUniqueKey);
+        this.nextUniqueKey = this.nextUniqueKey == Integer.MIN_VALUE ? -1 : this.nextUniqueKey - 1;
+        return key;
+    }
+
+
+    /**
+     * Get the key of a short message for merging queued messages. Messages with the same key
+     * address the same control, therefore only the last one needs to be sent.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @return The key
+     */
+    private static int getKey (final int status, final int data1)
+    {
+        final int code = status & 0xF0;
+        // Note off and note on address the same note
+        if (code == 0x80)
+            return (0x90 | status & 0x0F) << 8 | data1;
+        // Meters send the index of the strip in the upper nibble and the value in the lower one
+        if (code == 0xD0)
+            return status << 8 | 0x80 | data1 >> 4;
+        // Program change and pitchbend have no address
+        if (code >= 0xC0)
+            return status << 8 | 0x80;
+        return status << 8 | data1;
+    }
+
+
+    /**
+     * Count the bytes of a hex formatted string, e.g. F0 7E 7F 06 01 F7.
+     *
+     * @param data The formatted data
+     * @return The number of bytes
+     */
+    private static int countHexBytes (final String data)
+    {
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (Character.digit (data.charAt (i), 16) >= 0)
+                digits++;
+        }
+        return digits / 2;
+    }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import java.util.Arrays;
+
+
 /**
  * A MIDI device inquiry.
  *
@@ -11,7 +14,17 @@ package de.mossgrabers.framework.daw.midi;
  */
 public class DeviceInquiry
 {
-    private static final byte [] INQUIRY = new byte []
+    /** The first bytes of a device inquiry response, the device ID may have any value. */
+    public static final int []   RESPONSE_PREFIX = new int []
+    {
+        0xF0,
+        0x7E,
+        SysexDispatcher.ANY_VALUE,
+        0x06,
+        0x02
+    };
+
+    private static final byte [] INQUIRY         = new byte []
     {
         (byte) 0xF0,
         (byte) 0x7E,
@@ -32,10 +45,22 @@ public class DeviceInquiry
      */
     public DeviceInquiry (final int [] data)
     {
-        this.isResult = data.length >= 15;
-        if (data[0] != 0xF0 || data[1] != 0x7E || data[3] != 0x06 || data[4] != 0x02 || data[data.length - 1] != 0xF7)
+        this (data, data.length);
+    }
+
+
+    /**
+     * Constructor. Copies the data if it is a valid response.
+     *
+     * @param data The data of a device inquiry response, may be larger than the response
+     * @param length The number of bytes of the response
+     */
+    public DeviceInquiry (final int [] data, final int length)
+    {
+        this.isResult = length >= 15;
+        if (this.isResult && (data[0] != 0xF0 || data[1] != 0x7E || data[3] != 0x06 || data[4] != 0x02 || data[length - 1] != 0xF7))
             this.isResult = false;
-        this.data = this.isResult ? data : null;
+        this.data = this.isResult ? Arrays.copyOf (data, length) : null;
     }
 
 
@@ -27,6 +27,37 @@ public interface IMidiInput extends INoteInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Add a callback for the midi system exclusive messages coming from this input which start
+     * with the given bytes, e.g. the manufacturer and device ID. The message is decoded into a
+     * buffer which is re-used for all messages. If the prefixes of several callbacks match, only
+     * the one with the longest prefix is called.
+     *
+     * @param prefix The first bytes of the message, use {@link SysexDispatcher#ANY_VALUE} to match
+     *            any value, an empty array matches all messages
+     * @param callback The callback
+     */
+    void addSysexCallback (int [] prefix, MidiSysExDataCallback callback);
+
+
+    /**
+     * Set a callback which receives all system exclusive messages coming from the midi port before
+     * they are handled, e.g. to capture them. Injected messages are not reported.
+     *
+     * @param callback The callback
+     */
+    void setSysexCaptureCallback (MidiSysExCallback callback);
+
+
+    /**
+     * Handle a sysex message as if it was received from the midi input, e.g. when replaying a
+     * capture. The message is sent to all registered sysex callbacks.
+     *
+     * @param data The sysex data formatted as hex string without spaces
+     */
+    void injectSysex (String data);
+
+
     /**
      * Create a note input.
      *
@@ -11,6 +11,10 @@ package de.mossgrabers.framework.daw.midi;
  */
 public interface IMidiOutput
 {
+    /** The bandwidth of a DIN midi connection in bytes per second (31250 baud, 10 bits per byte). */
+    int DIN_MIDI_BANDWIDTH = 3125;
+
+
     /**
      * Send a midi CC to the output on midi channel 1.
      *
@@ -120,4 +124,64 @@ public interface IMidiOutput
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Send midi CCs on midi channel 1 which must arrive in the given order, e.g. a multiplexed
+     * message which first selects a zone and then sets a port of the zone. The CCs are never merged
+     * with other messages while they are collected in a batch or queued.
+     *
+     * @param ccAndValues Pairs of CC and value
+     */
+    void sendOrderedCC (int... ccAndValues);
+
+
+    /**
+     * Start collecting messages instead of sending them. Short messages for the same control (same
+     * status and first data byte) replace each other, only the last value is sent. Batches can be
+     * nested, the messages are sent when the outermost batch ends. Only the messages of the thread
+     * which started the batch are collected.
+     */
+    void beginBatch ();
+
+
+    /**
+     * End collecting messages and send all messages which were collected since the call to
+     * {@link #beginBatch()}.
+     */
+    void endBatch ();
+
+
+    /**
+     * Limit the bandwidth of the output. Messages which exceed the bandwidth are queued. Queued
+     * messages for the same control are merged, only the last value is sent.
+     *
+     * @param bytesPerSecond The maximum number of bytes per second, 0 to disable the limit
+     */
+    void setThrottle (int bytesPerSecond);
+
+
+    /**
+     * Get the number of messages which were sent to the output.
+     *
+     * @return The number of messages
+     */
+    long getMessageCount ();
+
+
+    /**
+     * Get the number of bytes which were sent to the output.
+     *
+     * @return The number of bytes
+     */
+    long getByteCount ();
+
+
+    /**
+     * Get the number of collected or queued messages which were replaced by a newer value before
+     * they were sent.
+     *
+     * @return The number of dropped messages
+     */
+    long getCoalescedMessageCount ();
 }
\ No newline at end of file
@@ -21,10 +21,13 @@ public interface INoteInput
      * scripts. By default an identity transform table is configured, which means that all incoming
      * MIDI notes keep their original key value when being sent into the DAW.
      *
+     * The table is only sent to the DAW if it differs from the active one. Keys which are pressed
+     * while the table changes keep their translation until they are released.
+     *
      * @param table An array which should contain 128 entries. Each entry should be a note value in
      *            the range [0..127] or -1 in case of filtering.
      */
-    void setKeyTranslationTable (Integer [] table);
+    void setKeyTranslationTable (int [] table);
 
 
     /**
@@ -36,8 +39,10 @@ public interface INoteInput
      * controller scripts. By default an identity transform table is configured, which means that
      * all incoming MIDI notes keep their original velocity when being sent into the DAW.
      *
+     * The table is only sent to the DAW if it differs from the active one.
+     *
      * @param table An array which should contain 128 entries. Each entry should be a note value in
      *            the range [0..127] or -1 in case of filtering.
      */
-    void setVelocityTranslationTable (Integer [] table);
+    void setVelocityTranslationTable (int [] table);
 }
@@ -0,0 +1,228 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.io.File;
+import java.io.IOException;
+
+
+/**
+ * Captures the messages received by a control surface to a file and replays them into the surface,
+ * controlled by the capture settings of the configuration. Only one capture file is used per
+ * surface, which contains the MIDI as well as the OSC messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCapture
+{
+    private static final int          RING_SIZE  = 64 * 1024;
+
+    private final IHost               host;
+    private final Configuration       configuration;
+
+    private MidiShortCallback         midiCallback;
+    private MidiSysExCallback         sysexCallback;
+    private IOpenSoundControlCallback oscCallback;
+
+    private MidiCaptureRecorder       recorder;
+    private MidiCaptureReplayer       replayer;
+    private String                    fileSuffix = "";
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The configuration which contains the capture settings
+     */
+    public MidiCapture (final IHost host, final Configuration configuration)
+    {
+        this.host = host;
+        this.configuration = configuration;
+
+        this.configuration.addSettingObserver (AbstractConfiguration.CAPTURE, this::updateCapture);
+        this.configuration.addSettingObserver (AbstractConfiguration.REPLAY, this::replay);
+    }
+
+
+    /**
+     * Set a suffix which is appended to the name of the capture file. Required if several surfaces
+     * share the same configuration.
+     *
+     * @param fileSuffix The suffix
+     */
+    public void setFileSuffix (final String fileSuffix)
+    {
+        this.fileSuffix = fileSuffix;
+    }
+
+
+    /**
+     * Set the callback which receives the replayed MIDI short messages.
+     *
+     * @param callback The callback
+     */
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /**
+     * Set the callback which receives the replayed sysex messages.
+     *
+     * @param callback The callback
+     */
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /**
+     * Set the callback which receives the replayed OSC messages.
+     *
+     * @param callback The callback
+     */
+    public void setOscCallback (final IOpenSoundControlCallback callback)
+    {
+        this.oscCallback = callback;
+    }
+
+
+    /**
+     * Record a received MIDI short message if capturing is enabled.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     */
+    public void recordShort (final int status, final int data1, final int data2)
+    {
+        final MidiCaptureRecorder r = this.recorder;
+        if (r != null)
+            r.recordShort (status, data1, data2);
+    }
+
+
+    /**
+     * Record a received sysex message if capturing is enabled.
+     *
+     * @param data The sysex data formatted as hex string without spaces
+     */
+    public void recordSysex (final String data)
+    {
+        final MidiCaptureRecorder r = this.recorder;
+        if (r != null)
+            r.recordSysex (data);
+    }
+
+
+    /**
+     * Record a received OSC message if capturing is enabled.
+     *
+     * @param message The OSC message
+     */
+    public void recordOSC (final IOpenSoundControlMessage message)
+    {
+        final MidiCaptureRecorder r = this.recorder;
+        if (r != null)
+            r.recordOSC (message);
+    }
+
+
+    /**
+     * Stop capturing and replaying.
+     */
+    public void shutdown ()
+    {
+        if (this.recorder != null)
+        {
+            this.recorder.stop ();
+            this.recorder = null;
+        }
+        if (this.replayer != null)
+            this.replayer.stop ();
+    }
+
+
+    private void updateCapture ()
+    {
+        if (this.recorder != null)
+        {
+            this.recorder.stop ();
+            this.recorder = null;
+            this.host.println ("Capture stopped.");
+        }
+
+        if (!this.configuration.isCaptureEnabled ())
+            return;
+
+        final File file = this.getCaptureFile ();
+        if (file == null)
+            return;
+
+        final MidiCaptureRecorder newRecorder = new MidiCaptureRecorder (this.host, file, RING_SIZE);
+        try
+        {
+            newRecorder.start ();
+            this.recorder = newRecorder;
+            this.host.println ("Capturing to " + file.getAbsolutePath ());
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not start capture.", ex);
+        }
+    }
+
+
+    private void replay ()
+    {
+        if (this.recorder != null)
+        {
+            this.host.error ("Turn off capturing before replaying.");
+            return;
+        }
+
+        if (this.replayer != null)
+            this.replayer.stop ();
+
+        final File file = this.getCaptureFile ();
+        if (file == null)
+            return;
+
+        try
+        {
+            this.replayer = new MidiCaptureReplayer (this.host, file);
+            this.replayer.setMidiCallback (this.midiCallback);
+            this.replayer.setSysexCallback (this.sysexCallback);
+            this.replayer.setOscCallback (this.oscCallback);
+            this.host.println ("Replaying " + file.getAbsolutePath ());
+            this.replayer.start (this.configuration.getReplaySpeed ());
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not load capture.", ex);
+        }
+    }
+
+
+    private File getCaptureFile ()
+    {
+        final String filename = this.configuration.getCaptureFilename ();
+        if (filename == null || filename.trim ().isEmpty ())
+        {
+            this.host.error ("Please configure a capture file.");
+            return null;
+        }
+        return new File (filename + this.fileSuffix);
+    }
+}
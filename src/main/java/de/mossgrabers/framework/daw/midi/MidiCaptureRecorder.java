@@ -0,0 +1,319 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * Records timestamped MIDI short messages, sysex and OSC messages into a compact binary ring
+ * buffer. If the ring buffer is full its content is spilled to the capture file with a single write.
+ * The capture can be played back with the {@link MidiCaptureReplayer}.
+ *
+ * The file starts with a header (magic number, version and the length of the record data). Each
+ * record starts with its type and the time in nanoseconds since the start of the capture.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCaptureRecorder
+{
+    /** The magic number at the start of a capture file. */
+    public static final int     MAGIC          = 0x44424D43;
+    /** The version of the capture file format. */
+    public static final int     VERSION        = 1;
+    /** The size of the file header. */
+    public static final int     HEADER_SIZE    = 16;
+
+    /** Record type of a MIDI short message. */
+    public static final byte    TYPE_SHORT     = 1;
+    /** Record type of a sysex message. */
+    public static final byte    TYPE_SYSEX     = 2;
+    /** Record type of an OSC message. */
+    public static final byte    TYPE_OSC       = 3;
+
+    /** OSC value type integer. */
+    public static final byte    VALUE_INT      = 'i';
+    /** OSC value type long. */
+    public static final byte    VALUE_LONG     = 'h';
+    /** OSC value type float. */
+    public static final byte    VALUE_FLOAT    = 'f';
+    /** OSC value type double. */
+    public static final byte    VALUE_DOUBLE   = 'd';
+    /** OSC value type string. */
+    public static final byte    VALUE_STRING   = 's';
+    /** OSC value type true. */
+    public static final byte    VALUE_TRUE     = 'T';
+    /** OSC value type false. */
+    public static final byte    VALUE_FALSE    = 'F';
+    /** OSC value type null. */
+    public static final byte    VALUE_NULL     = 'N';
+
+    private static final int    RECORD_HEADER  = 1 + 8;
+
+    private final IHost         host;
+    private final File          file;
+    private final ByteBuffer    ring;
+
+    private FileChannel         channel;
+    private long                filePosition;
+    private long                startTime;
+    private boolean             isRecording;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for logging errors
+     * @param file The file to which to write the capture
+     * @param ringSize The size of the ring buffer in bytes
+     */
+    public MidiCaptureRecorder (final IHost host, final File file, final int ringSize)
+    {
+        this.host = host;
+        this.file = file;
+        this.ring = ByteBuffer.allocate (Math.max (ringSize, HEADER_SIZE));
+    }
+
+
+    /**
+     * Start a new capture. An existing capture file is overwritten.
+     *
+     * @throws IOException Could not create the capture file
+     */
+    public synchronized void start () throws IOException
+    {
+        if (this.isRecording)
+            return;
+
+        this.channel = FileChannel.open (this.file.toPath (), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.filePosition = 0;
+
+        this.ring.clear ();
+        this.ring.putInt (MAGIC);
+        this.ring.putInt (VERSION);
+        // The length of the data is written when the capture is stopped
+        this.ring.putLong (0);
+
+        this.startTime = System.nanoTime ();
+        this.isRecording = true;
+    }
+
+
+    /**
+     * Stop the capture, write the remaining data of the ring buffer and close the file.
+     */
+    public synchronized void stop ()
+    {
+        if (!this.isRecording)
+            return;
+        this.isRecording = false;
+
+        try
+        {
+            this.spill ();
+            // Write the length only after all data is written, a capture which was not stopped
+            // keeps a length of 0
+            final ByteBuffer length = ByteBuffer.allocate (8);
+            length.putLong (this.filePosition - HEADER_SIZE);
+            length.flip ();
+            while (length.hasRemaining ())
+                this.channel.write (length, HEADER_SIZE - 8 + length.position ());
+            this.channel.force (false);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not write capture file.", ex);
+        }
+        finally
+        {
+            this.close ();
+        }
+    }
+
+
+    /**
+     * Is a capture running?
+     *
+     * @return True if running
+     */
+    public synchronized boolean isRecording ()
+    {
+        return this.isRecording;
+    }
+
+
+    /**
+     * Record a MIDI short message.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     */
+    public synchronized void recordShort (final int status, final int data1, final int data2)
+    {
+        if (!this.beginRecord (TYPE_SHORT, 3))
+            return;
+        this.ring.put ((byte) status);
+        this.ring.put ((byte) data1);
+        this.ring.put ((byte) data2);
+    }
+
+
+    /**
+     * Record a sysex message.
+     *
+     * @param data The sysex data formatted as hex string without spaces
+     */
+    public synchronized void recordSysex (final String data)
+    {
+        final int length = data.length () / 2;
+        if (!this.beginRecord (TYPE_SYSEX, 4 + length))
+            return;
+        this.ring.putInt (length);
+        for (int i = 0; i < length; i++)
+            this.ring.put ((byte) (Character.digit (data.charAt (2 * i), 16) << 4 | Character.digit (data.charAt (2 * i + 1), 16)));
+    }
+
+
+    /**
+     * Record an OSC message.
+     *
+     * @param message The OSC message
+     */
+    public synchronized void recordOSC (final IOpenSoundControlMessage message)
+    {
+        if (!this.isRecording)
+            return;
+
+        final byte [] address = message.getAddress ().getBytes (StandardCharsets.UTF_8);
+        final Object [] values = message.getValues ();
+        final int numValues = values == null ? 0 : values.length;
+
+        int size = 2 + address.length + 2;
+        for (int i = 0; i < numValues; i++)
+            size += 1 + getValueSize (values[i]);
+
+        if (!this.beginRecord (TYPE_OSC, size))
+            return;
+
+        this.ring.putShort ((short) address.length);
+        this.ring.put (address);
+        this.ring.putShort ((short) numValues);
+        for (int i = 0; i < numValues; i++)
+            this.putValue (values[i]);
+    }
+
+
+    private boolean beginRecord (final byte type, final int payloadSize)
+    {
+        if (!this.isRecording)
+            return false;
+
+        final int size = RECORD_HEADER + payloadSize;
+        if (size > this.ring.capacity ())
+        {
+            this.host.error ("Capture record is larger than the ring buffer: " + size);
+            return false;
+        }
+
+        if (this.ring.remaining () < size)
+        {
+            try
+            {
+                this.spill ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not write capture file.", ex);
+                this.isRecording = false;
+                this.close ();
+                return false;
+            }
+        }
+
+        this.ring.put (type);
+        this.ring.putLong (System.nanoTime () - this.startTime);
+        return true;
+    }
+
+
+    private void spill () throws IOException
+    {
+        this.ring.flip ();
+        while (this.ring.hasRemaining ())
+            this.filePosition += this.channel.write (this.ring, this.filePosition);
+        this.ring.clear ();
+    }
+
+
+    private void close ()
+    {
+        try
+        {
+            this.channel.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close capture file.", ex);
+        }
+        this.channel = null;
+    }
+
+
+    private static int getValueSize (final Object value)
+    {
+        if (value instanceof Integer || value instanceof Float)
+            return 4;
+        if (value instanceof Long || value instanceof Double)
+            return 8;
+        if (value == null || value instanceof Boolean)
+            return 0;
+        return 2 + value.toString ().getBytes (StandardCharsets.UTF_8).length;
+    }
+
+
+    private void putValue (final Object value)
+    {
+        if (value instanceof Integer)
+        {
+            this.ring.put (VALUE_INT);
+            this.ring.putInt (((Integer) value).intValue ());
+        }
+        else if (value instanceof Long)
+        {
+            this.ring.put (VALUE_LONG);
+            this.ring.putLong (((Long) value).longValue ());
+        }
+        else if (value instanceof Float)
+        {
+            this.ring.put (VALUE_FLOAT);
+            this.ring.putFloat (((Float) value).floatValue ());
+        }
+        else if (value instanceof Double)
+        {
+            this.ring.put (VALUE_DOUBLE);
+            this.ring.putDouble (((Double) value).doubleValue ());
+        }
+        else if (value instanceof Boolean)
+            this.ring.put (((Boolean) value).booleanValue () ? VALUE_TRUE : VALUE_FALSE);
+        else if (value == null)
+            this.ring.put (VALUE_NULL);
+        else
+        {
+            final byte [] text = value.toString ().getBytes (StandardCharsets.UTF_8);
+            this.ring.put (VALUE_STRING);
+            this.ring.putShort ((short) text.length);
+            this.ring.put (text);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * Plays back a capture written by the {@link MidiCaptureRecorder}. The messages are sent to the
+ * registered callbacks in the original timing or accelerated by a speed factor. All callbacks are
+ * executed from tasks scheduled on the host.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCaptureReplayer
+{
+    /** The maximum number of messages dispatched in one task if the capture is played as fast as possible. */
+    private static final int          MAX_BATCH_SIZE = 256;
+
+    private static final char []      HEX_DIGITS     = "0123456789ABCDEF".toCharArray ();
+
+    private final IHost               host;
+    private final ByteBuffer          data;
+
+    private MidiShortCallback         midiCallback;
+    private MidiSysExCallback         sysexCallback;
+    private IOpenSoundControlCallback oscCallback;
+
+    private double                    speed;
+    private long                      startTime;
+    private boolean                   isPlaying;
+
+
+    /**
+     * Constructor. Loads the capture file.
+     *
+     * @param host The host
+     * @param file The capture file
+     * @throws IOException Could not read the capture file or it is not a valid capture
+     */
+    public MidiCaptureReplayer (final IHost host, final File file) throws IOException
+    {
+        this.host = host;
+
+        try (final FileChannel channel = FileChannel.open (file.toPath (), StandardOpenOption.READ))
+        {
+            final ByteBuffer header = ByteBuffer.allocate (MidiCaptureRecorder.HEADER_SIZE);
+            while (header.hasRemaining ())
+            {
+                if (channel.read (header) < 0)
+                    throw new IOException ("Capture file is too short.");
+            }
+            header.flip ();
+            if (header.getInt () != MidiCaptureRecorder.MAGIC)
+                throw new IOException ("Not a capture file.");
+            final int version = header.getInt ();
+            if (version != MidiCaptureRecorder.VERSION)
+                throw new IOException ("Unsupported capture file version: " + version);
+            final long length = header.getLong ();
+            if (length < 0 || length > Integer.MAX_VALUE || MidiCaptureRecorder.HEADER_SIZE + length > channel.size ())
+                throw new IOException ("Capture file is corrupt or was not closed properly.");
+
+            this.data = channel.map (FileChannel.MapMode.READ_ONLY, MidiCaptureRecorder.HEADER_SIZE, length);
+        }
+    }
+
+
+    /**
+     * Set the callback which receives the MIDI short messages.
+     *
+     * @param callback The callback, e.g. the handleMidi method of a control surface
+     */
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /**
+     * Set the callback which receives the sysex messages.
+     *
+     * @param callback The callback
+     */
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /**
+     * Set the callback which receives the OSC messages.
+     *
+     * @param callback The callback
+     */
+    public void setOscCallback (final IOpenSoundControlCallback callback)
+    {
+        this.oscCallback = callback;
+    }
+
+
+    /**
+     * Start the playback from the beginning of the capture.
+     *
+     * @param speed The speed factor, 1 plays in the original timing, 2 with the double speed and so
+     *            on. Use 0 to play back as fast as possible
+     */
+    public void start (final double speed)
+    {
+        this.speed = speed;
+        this.data.rewind ();
+        this.startTime = System.nanoTime ();
+        this.isPlaying = true;
+        this.host.scheduleTask (this::playNext, 0);
+    }
+
+
+    /**
+     * Stop the playback.
+     */
+    public void stop ()
+    {
+        this.isPlaying = false;
+    }
+
+
+    /**
+     * Is the capture playing?
+     *
+     * @return True if playing
+     */
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    private void playNext ()
+    {
+        if (!this.isPlaying)
+            return;
+
+        final boolean isTimed = this.speed > 0;
+        final long position = isTimed ? (long) ((System.nanoTime () - this.startTime) * this.speed) : 0;
+
+        int count = 0;
+        while (this.data.hasRemaining ())
+        {
+            this.data.mark ();
+            final byte type = this.data.get ();
+            final long time = this.data.getLong ();
+
+            if (isTimed && time > position)
+            {
+                this.data.reset ();
+                final long delay = (long) ((time - position) / this.speed / 1000000.0);
+                this.host.scheduleTask (this::playNext, delay);
+                return;
+            }
+
+            this.dispatch (type);
+
+            count++;
+            if (!isTimed && count >= MAX_BATCH_SIZE)
+            {
+                // Give the host the chance to process other tasks in between
+                this.host.scheduleTask (this::playNext, 0);
+                return;
+            }
+        }
+
+        this.isPlaying = false;
+    }
+
+
+    private void dispatch (final byte type)
+    {
+        switch (type)
+        {
+            case MidiCaptureRecorder.TYPE_SHORT:
+                final int status = Byte.toUnsignedInt (this.data.get ());
+                final int data1 = Byte.toUnsignedInt (this.data.get ());
+                final int data2 = Byte.toUnsignedInt (this.data.get ());
+                if (this.midiCallback != null)
+                    this.midiCallback.handleMidi (status, data1, data2);
+                break;
+
+            case MidiCaptureRecorder.TYPE_SYSEX:
+                final int length = this.data.getInt ();
+                if (this.sysexCallback == null)
+                {
+                    this.data.position (this.data.position () + length);
+                    break;
+                }
+                final char [] hex = new char [2 * length];
+                for (int i = 0; i < length; i++)
+                {
+                    final int value = Byte.toUnsignedInt (this.data.get ());
+                    hex[2 * i] = HEX_DIGITS[value >> 4];
+                    hex[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+                }
+                this.sysexCallback.handleMidi (new String (hex));
+                break;
+
+            case MidiCaptureRecorder.TYPE_OSC:
+                final IOpenSoundControlMessage message = this.readOSC ();
+                if (this.oscCallback != null)
+                    this.oscCallback.handle (message);
+                break;
+
+            default:
+                this.host.error ("Unknown record type in capture: " + type);
+                this.isPlaying = false;
+                break;
+        }
+    }
+
+
+    private IOpenSoundControlMessage readOSC ()
+    {
+        final String address = this.readString ();
+        final int numValues = Short.toUnsignedInt (this.data.getShort ());
+        final Object [] values = new Object [numValues];
+        for (int i = 0; i < numValues; i++)
+        {
+            final byte valueType = this.data.get ();
+            switch (valueType)
+            {
+                case MidiCaptureRecorder.VALUE_INT:
+                    values[i] = Integer.valueOf (this.data.getInt ());
+                    break;
+                case MidiCaptureRecorder.VALUE_LONG:
+                    values[i] = Long.valueOf (this.data.getLong ());
+                    break;
+                case MidiCaptureRecorder.VALUE_FLOAT:
+                    values[i] = Float.valueOf (this.data.getFloat ());
+                    break;
+                case MidiCaptureRecorder.VALUE_DOUBLE:
+                    values[i] = Double.valueOf (this.data.getDouble ());
+                    break;
+                case MidiCaptureRecorder.VALUE_TRUE:
+                    values[i] = Boolean.TRUE;
+                    break;
+                case MidiCaptureRecorder.VALUE_FALSE:
+                    values[i] = Boolean.FALSE;
+                    break;
+                case MidiCaptureRecorder.VALUE_STRING:
+                    values[i] = this.readString ();
+                    break;
+                default:
+                    values[i] = null;
+                    break;
+            }
+        }
+        return new CapturedMessage (address, values);
+    }
+
+
+    private String readString ()
+    {
+        final byte [] text = new byte [Short.toUnsignedInt (this.data.getShort ())];
+        this.data.get (text);
+        return new String (text, StandardCharsets.UTF_8);
+    }
+
+
+    /** An OSC message read from a capture. */
+    private static class CapturedMessage implements IOpenSoundControlMessage
+    {
+        private final String    address;
+        private final Object [] values;
+
+
+        /**
+         * Constructor.
+         *
+         * @param address The OSC address
+         * @param values The values of the message
+         */
+        public CapturedMessage (final String address, final Object [] values)
+        {
+            this.address = address;
+            this.values = values;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getAddress ()
+        {
+            return this.address;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Object [] getValues ()
+        {
+            return this.values;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public IOpenSoundControlClient getSender ()
+        {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving decoded MIDI System exclusive messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface MidiSysExDataCallback
+{
+    /**
+     * Handle received midi sysex data. The array is re-used for the next message, therefore it must
+     * not be stored. Copy the relevant part instead.
+     *
+     * @param data The bytes of the message in the range of [0..255], the array may be larger than
+     *            the message
+     * @param length The number of bytes of the message
+     */
+    void handleMidi (int [] data, int length);
+}
@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Routes received system exclusive messages to the callback which is registered for the header of
+ * the message, e.g. the manufacturer and device ID. Only the bytes of the longest header are decoded
+ * to find the callback. The rest of the message is only decoded if there is a matching callback.
+ * All messages are decoded into the same buffer, which is enlarged if necessary.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexDispatcher
+{
+    /** Use as a byte of a prefix to match any value, e.g. for the device ID. */
+    public static final int                   ANY_VALUE = -1;
+
+    private final List<int []>                prefixes  = new ArrayList<> ();
+    private final List<MidiSysExDataCallback> callbacks = new ArrayList<> ();
+    private int                               maxPrefixLength;
+    private int []                            buffer    = new int [256];
+
+
+    /**
+     * Register a callback for the messages which start with the given bytes. If several prefixes
+     * match, the longest one wins. An empty prefix matches all messages.
+     *
+     * @param prefix The first bytes of the message, use {@link #ANY_VALUE} to match any value
+     * @param callback The callback
+     */
+    public synchronized void addCallback (final int [] prefix, final MidiSysExDataCallback callback)
+    {
+        // Keep the longest prefixes first
+        int index = 0;
+        while (index < this.prefixes.size () && this.prefixes.get (index).length >= prefix.length)
+            index++;
+        this.prefixes.add (index, prefix.clone ());
+        this.callbacks.add (index, callback);
+        this.maxPrefixLength = Math.max (this.maxPrefixLength, prefix.length);
+    }
+
+
+    /**
+     * Are there any registered callbacks?
+     *
+     * @return True if there is at least one callback
+     */
+    public synchronized boolean hasCallbacks ()
+    {
+        return !this.callbacks.isEmpty ();
+    }
+
+
+    /**
+     * Decode a message and call the matching callback.
+     *
+     * @param data The message formatted in hex, 2 characters per byte without spaces
+     */
+    public synchronized void dispatch (final String data)
+    {
+        final int length = data.length () / 2;
+        if (this.buffer.length < length)
+            this.buffer = new int [Math.max (length, this.buffer.length * 2)];
+
+        final int prefixLength = Math.min (length, this.maxPrefixLength);
+        decode (data, this.buffer, 0, prefixLength);
+
+        for (int i = 0; i < this.prefixes.size (); i++)
+        {
+            if (!this.matches (this.prefixes.get (i), length))
+                continue;
+            decode (data, this.buffer, prefixLength, length);
+            this.callbacks.get (i).handleMidi (this.buffer, length);
+            return;
+        }
+    }
+
+
+    private boolean matches (final int [] prefix, final int length)
+    {
+        if (prefix.length > length)
+            return false;
+        for (int i = 0; i < prefix.length; i++)
+        {
+            if (prefix[i] != ANY_VALUE && prefix[i] != this.buffer[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    private static void decode (final String data, final int [] buffer, final int start, final int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            final int pos = 2 * i;
+            buffer[i] = Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+
+/**
+ * Double buffer for a key or velocity translation table of a note input. A table is only sent to
+ * the DAW if it differs from the one which is currently active. The boxed table which is required
+ * by the DAW is re-used, therefore, setting a table does not allocate any memory.
+ *
+ * If notes are tracked (key translation tables), keys which are pressed during a remap keep their
+ * current translation until they are released. Otherwise, the note-off would be sent to a
+ * different note than the note-on and the note would get stuck.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TranslationTableBuffer
+{
+    private static final int           SIZE    = 128;
+
+    private final Consumer<Integer []> sender;
+    private final Integer []           boxed   = new Integer [SIZE];
+    private final int []               pending = new int [SIZE];
+    private final boolean []           pressed = new boolean [SIZE];
+    private int []                     active  = new int [SIZE];
+    private int []                     back    = new int [SIZE];
+    private boolean                    hasPending;
+    private boolean                    isActive;
+
+
+    /**
+     * Constructor.
+     *
+     * @param sender Sends a table to the DAW
+     */
+    public TranslationTableBuffer (final Consumer<Integer []> sender)
+    {
+        this.sender = sender;
+    }
+
+
+    /**
+     * Set a new translation table. It is only sent if it differs from the active one.
+     *
+     * @param table An array which should contain 128 entries. Each entry should be a note value in
+     *            the range [0..127] or -1 in case of filtering
+     */
+    public synchronized void setTable (final int [] table)
+    {
+        final int length = Math.min (table.length, SIZE);
+        System.arraycopy (table, 0, this.pending, 0, length);
+        for (int i = length; i < SIZE; i++)
+            this.pending[i] = -1;
+        this.hasPending = true;
+        this.apply ();
+    }
+
+
+    /**
+     * Track the received MIDI messages to know about the currently pressed keys.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public synchronized void trackNote (final int status, final int data1, final int data2)
+    {
+        final int code = status & 0xF0;
+        if (code != 0x90 && code != 0x80)
+            return;
+
+        final boolean isDown = code == 0x90 && data2 > 0;
+        this.pressed[data1] = isDown;
+
+        // A released key might wait for its new translation
+        if (!isDown && this.isActive && this.active[data1] != this.pending[data1])
+            this.apply ();
+    }
+
+
+    /**
+     * Compose the table from the pending table and the translations of pressed keys. Swap and send
+     * it if it differs from the active one.
+     */
+    private void apply ()
+    {
+        if (!this.hasPending)
+            return;
+
+        for (int i = 0; i < SIZE; i++)
+            this.back[i] = this.isActive && this.pressed[i] ? this.active[i] : this.pending[i];
+
+        if (this.isActive && Arrays.equals (this.back, this.active))
+            return;
+
+        final int [] swap = this.active;
+        this.active = this.back;
+        this.back = swap;
+        this.isActive = true;
+
+        for (int i = 0; i < SIZE; i++)
+            this.boxed[i] = Integer.valueOf (this.active[i]);
+        this.sender.accept (this.boxed);
+    }
+}
@@ -27,6 +27,7 @@ import de.mossgrabers.framework.utils.Pair;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -42,34 +43,40 @@ import java.util.concurrent.atomic.AtomicReference;
 public class DisplayModel
 {
     /** Display only a channel name for selection. */
-    public static final int                GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int                  GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int                GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int                  GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int                GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int                  GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int                GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int                  GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int                GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int                  GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int                GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int                  GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int                GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int                  GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int                GRID_ELEMENT_OPTIONS            = 7;
+    public static final int                  GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int                GRID_ELEMENT_LIST               = 8;
+    public static final int                  GRID_ELEMENT_LIST               = 8;
 
     /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 2;
+    private static final int                 TIMEOUT                         = 2;
+    /**
+     * An unchanged frame is sent again after this time (in milliseconds), otherwise the display of
+     * the Push 2 turns black.
+     */
+    private static final long                KEEP_ALIVE                      = 1000;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final AtomicInteger              counter                         = new AtomicInteger ();
+    private final ScheduledExecutorService   executor                        = Executors.newSingleThreadScheduledExecutor ();
 
-    private final List<GridChangeListener> listeners                       = new ArrayList<> ();
-    private final List<IGridElement>       elements                        = new ArrayList<> (8);
-    private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final List<GridChangeListener>   listeners                       = new CopyOnWriteArrayList<> ();
+    private final AtomicReference<String>    notificationMessage             = new AtomicReference<> ();
+    private final AtomicReference<ModelInfo> info                            = new AtomicReference<> (new ModelInfo (0, null, Collections.emptyList ()));
+    private List<IGridElement>               elements                        = new ArrayList<> (8);
+    private long                             lastPublished;
 
 
     /**
@@ -109,15 +116,31 @@ public class DisplayModel
 
 
     /**
-     * Send the message to the display process.
+     * Send the message to the display process. The collected elements are published as an immutable
+     * snapshot. If the content did not change since the last snapshot, the listeners are not
+     * notified (apart from a keep alive).
      */
     public void send ()
     {
         if (this.executor.isShutdown ())
             return;
 
-        this.info = new ModelInfo (this.notificationMessage.get (), this.elements);
-        this.elements.clear ();
+        // The list is handed over to the snapshot and never touched again by the sending thread
+        final List<IGridElement> frame = this.elements;
+        this.elements = new ArrayList<> (8);
+
+        final String notification = this.notificationMessage.get ();
+        final ModelInfo current = this.info.get ();
+        final long now = System.currentTimeMillis ();
+        if (current.hasSameContent (notification, frame))
+        {
+            if (now - this.lastPublished < KEEP_ALIVE)
+                return;
+        }
+        else
+            this.info.set (new ModelInfo (current.getVersion () + 1, notification, frame));
+        this.lastPublished = now;
+
         for (final GridChangeListener listener: this.listeners)
             listener.gridHasChanged ();
     }
@@ -439,12 +462,12 @@ public class DisplayModel
 
 
     /**
-     * Get the drawing info object.
+     * Get the latest published snapshot of the drawing info.
      *
      * @return The info.
      */
     public ModelInfo getInfo ()
     {
-        return this.info;
+        return this.info.get ();
     }
 }
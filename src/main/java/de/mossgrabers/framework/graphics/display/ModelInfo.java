@@ -6,31 +6,47 @@ package de.mossgrabers.framework.graphics.display;
 
 import de.mossgrabers.framework.graphics.grid.IGridElement;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
- * Wrapper class for drawing data.
+ * Wrapper class for drawing data. It is an immutable snapshot of one frame, which can safely be
+ * drawn from a different thread than the one which created it.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ModelInfo
 {
-    private String                   notification;
+    private final long               version;
+    private final String             notification;
     private final List<IGridElement> elements;
 
 
     /**
      * Constructor.
      *
+     * @param version The version of the snapshot, increases with each change of the content
      * @param notification The notification message, if any
-     * @param elements The elements
+     * @param elements The elements, the list must not be modified afterwards
      */
-    public ModelInfo (final String notification, final List<IGridElement> elements)
+    public ModelInfo (final long version, final String notification, final List<IGridElement> elements)
     {
+        this.version = version;
         this.notification = notification;
-        this.elements = new ArrayList<> (elements);
+        this.elements = Collections.unmodifiableList (elements);
+    }
+
+
+    /**
+     * Get the version of the snapshot.
+     *
+     * @return The version
+     */
+    public long getVersion ()
+    {
+        return this.version;
     }
 
 
@@ -54,4 +70,17 @@ public class ModelInfo
     {
         return this.elements;
     }
+
+
+    /**
+     * Check if the snapshot would draw the same as the given content.
+     *
+     * @param notification The notification message, if any
+     * @param elements The elements
+     * @return True if equal
+     */
+    public boolean hasSameContent (final String notification, final List<IGridElement> elements)
+    {
+        return Objects.equals (this.notification, notification) && this.elements.equals (elements);
+    }
 }
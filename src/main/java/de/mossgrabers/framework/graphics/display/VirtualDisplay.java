@@ -27,6 +27,7 @@ public class VirtualDisplay
     private final IBitmap                image;
     private final IGraphicsConfiguration configuration;
     private final IGraphicsDimensions    dimensions;
+    private long                         drawnVersion = -1;
 
 
     /**
@@ -54,11 +55,15 @@ public class VirtualDisplay
 
 
     /**
-     * Redraw the display.
+     * Redraw the display. Does nothing if the latest snapshot of the model has already been drawn.
      */
     public void redrawGrid ()
     {
-        this.drawGrid (this.image);
+        final ModelInfo info = this.model.getInfo ();
+        if (info.getVersion () == this.drawnVersion)
+            return;
+        this.drawnVersion = info.getVersion ();
+        this.drawGrid (this.image, info);
     }
 
 
@@ -77,8 +82,9 @@ public class VirtualDisplay
      * Draws the N grid elements of the grid.
      *
      * @param bitmap The bitmap to draw to
+     * @param info The snapshot to draw
      */
-    private void drawGrid (final IBitmap bitmap)
+    private void drawGrid (final IBitmap bitmap, final ModelInfo info)
     {
         bitmap.render (gc -> {
             final int width = this.dimensions.getWidth ();
@@ -89,7 +95,6 @@ public class VirtualDisplay
             final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final ModelInfo info = this.model.getInfo ();
             final List<IGridElement> elements = info.getElements ();
             final int size = elements.size ();
             if (size == 0)
@@ -13,6 +13,8 @@ import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains the channel settings: Volume, VU, Pan, Mute, Solo and Arm.
@@ -290,4 +292,15 @@ public class ChannelGridElement extends SelectionGridElement
         final IImage icon = ResourceHandler.getSVGImage (iconName);
         gc.maskImage (icon, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final ChannelGridElement other = (ChannelGridElement) obj;
+        return this.editType == other.editType && this.volumeValue == other.volumeValue && this.modulatedVolumeValue == other.modulatedVolumeValue && this.panValue == other.panValue && this.modulatedPanValue == other.modulatedPanValue && this.vuValueLeft == other.vuValueLeft && this.vuValueRight == other.vuValueRight && this.isMute == other.isMute && this.isSolo == other.isSolo && this.isArm == other.isArm && this.crossfadeMode == other.crossfadeMode && Objects.equals (this.volumeText, other.volumeText) && Objects.equals (this.panText, other.panText);
+    }
 }
@@ -13,8 +13,9 @@ import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.utils.Pair;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -25,18 +26,24 @@ import java.util.List;
  */
 public class ClipListGridElement extends AbstractGridElement
 {
-    private final List<Pair<ITrack, ISlot>> items;
+    private final SlotInfo [] items;
 
 
     /**
-     * Constructor.
+     * Constructor. Takes a snapshot of the current state of the slots.
      *
      * @param slots The list items
      */
     public ClipListGridElement (final List<Pair<ITrack, ISlot>> slots)
     {
         super (null, false, null, null, null, false);
-        this.items = new ArrayList<> (slots);
+
+        this.items = new SlotInfo [slots.size ()];
+        for (int i = 0; i < this.items.length; i++)
+        {
+            final Pair<ITrack, ISlot> pair = slots.get (i);
+            this.items[i] = new SlotInfo (pair.getKey (), pair.getValue ());
+        }
     }
 
 
@@ -47,7 +54,7 @@ public class ClipListGridElement extends AbstractGridElement
         final double separatorSize = dimensions.getSeparatorSize ();
         final double inset = dimensions.getInset ();
 
-        final int size = this.items.size ();
+        final int size = this.items.length;
         final double itemLeft = left + separatorSize;
         final double itemWidth = width - separatorSize;
         final double itemHeight = height / size;
@@ -61,53 +68,51 @@ public class ClipListGridElement extends AbstractGridElement
 
         for (int i = 0; i < size; i++)
         {
-            final Pair<ITrack, ISlot> pair = this.items.get (i);
-            final ISlot slot = pair.getValue ();
-            final ITrack track = pair.getKey ();
+            final SlotInfo slot = this.items[i];
 
             final double itemTop = i * itemHeight;
 
-            String name = slot.getName ();
+            String name = slot.name;
 
             final double boxTop = itemTop + (itemHeight - fontHeight) / 2;
 
             // Draw the background
-            final ColorEx clipBackgroundColor = new ColorEx (slot.getColor ());
-            if (track.isGroup ())
+            final ColorEx clipBackgroundColor = slot.color;
+            if (slot.isGroup)
             {
                 if (name.isEmpty ())
-                    name = "Scene " + (slot.getPosition () + 1);
+                    name = "Scene " + (slot.position + 1);
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, ColorEx.darker (ColorEx.DARK_GRAY));
                 gc.fillRectangle (itemLeft + itemWidth - 2 * inset, itemTop + separatorSize, 2 * inset, itemHeight - 2 * separatorSize, clipBackgroundColor);
             }
             else
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, clipBackgroundColor);
 
-            if (slot.doesExist ())
+            if (slot.exists)
             {
                 // Draw the play/record state indicator box
-                final boolean isPlaying = slot.isPlaying ();
-                if (isPlaying || slot.isRecording () || slot.isPlayingQueued () || slot.isRecordingQueued ())
+                final boolean isPlaying = slot.isPlaying;
+                if (isPlaying || slot.isRecording || slot.isPlayingQueued || slot.isRecordingQueued)
                     gc.fillRectangle (boxLeft, boxTop, fontHeight, fontHeight, ColorEx.BLACK);
 
                 // Draw the play, record or stop symbol depending on the slots state
-                if (slot.hasContent ())
+                if (slot.hasContent)
                 {
-                    if (slot.isRecording ())
+                    if (slot.isRecording)
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.RED);
                     else
                     {
                         ColorEx fillColor = ColorEx.darker (clipBackgroundColor);
                         if (isPlaying)
                             fillColor = ColorEx.GREEN;
-                        else if (slot.isPlayingQueued () || slot.isRecordingQueued ())
+                        else if (slot.isPlayingQueued || slot.isRecordingQueued)
                             fillColor = ColorEx.WHITE;
                         gc.fillTriangle (boxLeft + separatorSize, boxTop + separatorSize, boxLeft + separatorSize, boxTop + fontHeight - separatorSize, boxLeft + fontHeight - separatorSize, boxTop + fontHeight / 2, fillColor);
                     }
                 }
                 else
                 {
-                    if (track.isRecArm ())
+                    if (slot.isRecArm)
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.DARK_GRAY);
                     else
                         gc.fillRectangle (boxLeft + separatorSize, boxTop + separatorSize, boxWidth, boxWidth, ColorEx.DARK_GRAY);
@@ -119,11 +124,85 @@ public class ClipListGridElement extends AbstractGridElement
 
             // Draw the border
             ColorEx color = borderColor;
-            if (slot.isSelected ())
+            if (slot.isSelected)
                 color = textColor;
-            else if (track.isSelected ())
+            else if (slot.isTrackSelected)
                 color = ColorEx.darker (ColorEx.YELLOW);
-            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected () ? 2 : 1);
+            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected ? 2 : 1);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        return Arrays.equals (this.items, ((ClipListGridElement) obj).items);
+    }
+
+
+    /** The state of a slot and its track at the time of the creation of the element. */
+    private static class SlotInfo
+    {
+        final String  name;
+        final ColorEx color;
+        final int     position;
+        final boolean exists;
+        final boolean hasContent;
+        final boolean isPlaying;
+        final boolean isRecording;
+        final boolean isPlayingQueued;
+        final boolean isRecordingQueued;
+        final boolean isSelected;
+        final boolean isGroup;
+        final boolean isRecArm;
+        final boolean isTrackSelected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param track The track of the slot
+         * @param slot The slot
+         */
+        SlotInfo (final ITrack track, final ISlot slot)
+        {
+            this.name = slot.getName ();
+            this.color = new ColorEx (slot.getColor ());
+            this.position = slot.getPosition ();
+            this.exists = slot.doesExist ();
+            this.hasContent = slot.hasContent ();
+            this.isPlaying = slot.isPlaying ();
+            this.isRecording = slot.isRecording ();
+            this.isPlayingQueued = slot.isPlayingQueued ();
+            this.isRecordingQueued = slot.isRecordingQueued ();
+            this.isSelected = slot.isSelected ();
+            this.isGroup = track.isGroup ();
+            this.isRecArm = track.isRecArm ();
+            this.isTrackSelected = track.isSelected ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final SlotInfo other = (SlotInfo) obj;
+            return this.position == other.position && this.exists == other.exists && this.hasContent == other.hasContent && this.isPlaying == other.isPlaying && this.isRecording == other.isRecording && this.isPlayingQueued == other.isPlayingQueued && this.isRecordingQueued == other.isRecordingQueued && this.isSelected == other.isSelected && this.isGroup == other.isGroup && this.isRecArm == other.isRecArm && this.isTrackSelected == other.isTrackSelected && Objects.equals (this.name, other.name) && Objects.equals (this.color, other.color);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return Objects.hash (this.name, this.color, Integer.valueOf (this.position));
         }
     }
 }
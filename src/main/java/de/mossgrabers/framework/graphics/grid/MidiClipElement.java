@@ -13,6 +13,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * An element which displays the notes of a midi clip.
@@ -28,12 +30,23 @@ public class MidiClipElement extends AbstractGridElement
     private static final ColorEx LOOP_BACKGROUND   = ColorEx.fromRGB (84, 84, 84);
     private static final ColorEx HEADER_BACKGROUND = ColorEx.fromRGB (140, 140, 140);
 
-    private final INoteClip      clip;
-    private int                  quartersPerMeasure;
+    private final int            quartersPerMeasure;
+    private final int            numSteps;
+    private final double         stepLength;
+    private final int            editPage;
+    private final boolean        isLoopEnabled;
+    private final double         loopStart;
+    private final double         loopLength;
+    private final ColorEx        noteColor;
+    private final double         playStart;
+    private final double         playEnd;
+    private final int            lowerRowWithData;
+    private final int            currentStep;
+    private final int [] []      steps;
 
 
     /**
-     * Constructor.
+     * Constructor. Takes a snapshot of the current state of the clip.
      *
      * @param clip The clip to display
      * @param quartersPerMeasure The quarters of a measure
@@ -41,8 +54,33 @@ public class MidiClipElement extends AbstractGridElement
     public MidiClipElement (final INoteClip clip, final int quartersPerMeasure)
     {
         super (null, false, null, null, null, false);
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        final double [] clipColor = clip.getColor ();
+        this.noteColor = new ColorEx (clipColor[0], clipColor[1], clipColor[2]);
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.currentStep = clip.getCurrentStep ();
+
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        if (this.lowerRowWithData == -1)
+        {
+            this.steps = new int [0] [];
+            return;
+        }
+        final int range = 1 + clip.getUpperRowWithData () - this.lowerRowWithData;
+        this.steps = new int [range] [this.numSteps];
+        for (int row = 0; row < range; row++)
+        {
+            for (int step = 0; step < this.numSteps; step++)
+                this.steps[row][step] = clip.getStep (step, this.lowerRowWithData + row);
+        }
     }
 
 
@@ -57,17 +95,17 @@ public class MidiClipElement extends AbstractGridElement
         gc.fillRectangle (left, top, width, noteAreaHeight, HEADER_BACKGROUND);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
+        final int numSteps = this.numSteps;
+        final double stepLength = this.stepLength;
         final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
+        final int editPage = this.editPage;
         final double startPos = editPage * pageLength;
         final double endPos = (editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
+            final double loopStart = this.loopStart;
+            final double loopLength = this.loopLength;
             // ... the loop is visible in the current page
             if (loopStart < endPos && loopStart + loopLength > startPos)
             {
@@ -83,9 +121,8 @@ public class MidiClipElement extends AbstractGridElement
             }
         }
         // Draw play start in header
-        final double [] clipColor = this.clip.getColor ();
-        final double playStart = this.clip.getPlayStart ();
-        final ColorEx noteColor = new ColorEx (clipColor[0], clipColor[1], clipColor[2]);
+        final double playStart = this.playStart;
+        final ColorEx noteColor = this.noteColor;
         final ColorEx lineColor = noteColor;
         if (playStart >= startPos && playStart <= endPos)
         {
@@ -94,7 +131,7 @@ public class MidiClipElement extends AbstractGridElement
             gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, lineColor);
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
+        final double playEnd = this.playEnd;
         if (playEnd >= startPos && playEnd <= endPos)
         {
             final double end = playEnd - startPos;
@@ -119,11 +156,10 @@ public class MidiClipElement extends AbstractGridElement
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowerRowWithData ();
+        final int lowerRowWithData = this.lowerRowWithData;
         if (lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getUpperRowWithData ();
-        final int range = 1 + upperRowWithData - lowerRowWithData;
+        final int range = this.steps.length;
         final double stepHeight = noteAreaHeight / range;
 
         final double fontSize = gc.calculateFontSize (stepHeight, stepWidth);
@@ -137,7 +173,7 @@ public class MidiClipElement extends AbstractGridElement
                 final int note = lowerRowWithData + row;
 
                 // Get step, check for length
-                final int stepState = this.clip.getStep (step, note);
+                final int stepState = this.steps[row][step];
                 if (stepState == 0)
                     continue;
 
@@ -163,8 +199,19 @@ public class MidiClipElement extends AbstractGridElement
         }
 
         // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
+        final int playStep = this.currentStep;
         if (playStep >= 0)
             gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final MidiClipElement other = (MidiClipElement) obj;
+        return this.quartersPerMeasure == other.quartersPerMeasure && this.numSteps == other.numSteps && this.stepLength == other.stepLength && this.editPage == other.editPage && this.isLoopEnabled == other.isLoopEnabled && this.loopStart == other.loopStart && this.loopLength == other.loopLength && this.playStart == other.playStart && this.playEnd == other.playEnd && this.lowerRowWithData == other.lowerRowWithData && this.currentStep == other.currentStep && this.noteColor.equals (other.noteColor) && Arrays.deepEquals (this.steps, other.steps);
+    }
 }
@@ -12,6 +12,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains a fader and text for a value.
@@ -165,4 +167,15 @@ public class ParamGridElement extends SelectionGridElement
             return DeviceTypes.getIconId (this.deviceName);
         return super.getIcon ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final ParamGridElement other = (ParamGridElement) obj;
+        return this.paramValue == other.paramValue && this.modulatedParamValue == other.modulatedParamValue && this.isTouched == other.isTouched && Objects.equals (this.paramName, other.paramName) && Objects.equals (this.paramValueText, other.paramValueText) && Objects.equals (this.deviceName, other.deviceName);
+    }
 }
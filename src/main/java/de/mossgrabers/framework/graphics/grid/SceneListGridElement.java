@@ -11,7 +11,7 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -24,11 +24,14 @@ import java.util.List;
  */
 public class SceneListGridElement extends AbstractGridElement
 {
-    private final List<IScene> scenes;
+    private final String []  names;
+    private final ColorEx [] colors;
+    private final boolean [] exists;
+    private final boolean [] selected;
 
 
     /**
-     * Constructor.
+     * Constructor. Takes a snapshot of the current state of the scenes.
      *
      * @param scenes The scenes
      */
@@ -36,7 +39,19 @@ public class SceneListGridElement extends AbstractGridElement
     {
         super (null, false, null, null, null, false);
 
-        this.scenes = new ArrayList<> (scenes);
+        final int size = scenes.size ();
+        this.names = new String [size];
+        this.colors = new ColorEx [size];
+        this.exists = new boolean [size];
+        this.selected = new boolean [size];
+        for (int i = 0; i < size; i++)
+        {
+            final IScene scene = scenes.get (i);
+            this.names[i] = scene.getName ();
+            this.colors[i] = new ColorEx (scene.getColor ());
+            this.exists[i] = scene.doesExist ();
+            this.selected[i] = scene.isSelected ();
+        }
     }
 
 
@@ -47,7 +62,7 @@ public class SceneListGridElement extends AbstractGridElement
         final double separatorSize = dimensions.getSeparatorSize ();
         final double inset = dimensions.getInset ();
 
-        final int size = this.scenes.size ();
+        final int size = this.names.length;
         final double itemLeft = left + separatorSize;
         final double itemWidth = width - separatorSize;
         final double itemHeight = height / size;
@@ -59,12 +74,22 @@ public class SceneListGridElement extends AbstractGridElement
         {
             final double itemTop = i * itemHeight;
 
-            final IScene scene = this.scenes.get (i);
-            final ColorEx backgroundColor = new ColorEx (scene.getColor ());
+            final ColorEx backgroundColor = this.colors[i];
             gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, backgroundColor);
-            if (scene.doesExist ())
-                gc.drawTextInBounds (scene.getName (), itemLeft + inset, itemTop - 1, itemWidth - 2 * inset, itemHeight, Align.LEFT, ColorEx.calcContrastColor (backgroundColor), itemHeight / 2);
-            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, scene.isSelected () ? textColor : borderColor, scene.isSelected () ? 2 : 1);
+            if (this.exists[i])
+                gc.drawTextInBounds (this.names[i], itemLeft + inset, itemTop - 1, itemWidth - 2 * inset, itemHeight, Align.LEFT, ColorEx.calcContrastColor (backgroundColor), itemHeight / 2);
+            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, this.selected[i] ? textColor : borderColor, this.selected[i] ? 2 : 1);
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SceneListGridElement other = (SceneListGridElement) obj;
+        return Arrays.equals (this.names, other.names) && Arrays.equals (this.colors, other.colors) && Arrays.equals (this.exists, other.exists) && Arrays.equals (this.selected, other.selected);
+    }
 }
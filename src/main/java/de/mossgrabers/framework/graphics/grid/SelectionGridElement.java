@@ -164,4 +164,15 @@ public class SelectionGridElement extends AbstractGridElement
     {
         return configuration.getColorText ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SelectionGridElement other = (SelectionGridElement) obj;
+        return this.isActive == other.isActive && this.type == other.type;
+    }
 }
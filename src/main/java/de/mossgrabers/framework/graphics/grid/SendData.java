@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.graphics.grid;
 
+import java.util.Objects;
+
+
 /**
  * Wraps some send info.
  *
@@ -90,4 +93,25 @@ public class SendData
     {
         return this.edited;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final SendData other = (SendData) obj;
+        return this.value == other.value && this.modulatedValue == other.modulatedValue && this.edited == other.edited && Objects.equals (this.name, other.name) && Objects.equals (this.text, other.text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return Objects.hash (this.name, this.text, Integer.valueOf (this.value));
+    }
 }
@@ -9,8 +9,12 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.observer.ObserverManagement;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Abstract class for all modes.
@@ -23,21 +27,23 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractMode<S extends IControlSurface<C>, C extends Configuration> implements Mode
 {
     /** Color identifier for a mode button which is off. */
-    public static final String BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String             BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
     /** Color identifier for a mode button which is on. */
-    public static final String BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String             BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
     /** Color identifier for a mode button which is hilighted. */
-    public static final String BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
+    public static final String             BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
     /** Color identifier for a mode button which is on (second row). */
-    public static final String BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
+    public static final String             BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
     /** Color identifier for a mode button which is hilighted (second row). */
-    public static final String BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
+    public static final String             BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
+
+    private final String                   name;
+    protected final S                      surface;
+    protected final IModel                 model;
+    protected boolean                      isTemporary;
+    protected boolean                      isAbsolute;
 
-    private final String       name;
-    protected final S          surface;
-    protected final IModel     model;
-    protected boolean          isTemporary;
-    protected boolean          isAbsolute;
+    private final List<ObserverManagement> observed         = new ArrayList<> ();
 
 
     /**
@@ -85,7 +91,7 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     @Override
     public void onActivate ()
     {
-        // Intentionally empty
+        this.model.getSubscriptionManager ().subscribe (this.observed);
     }
 
 
@@ -93,7 +99,23 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     @Override
     public void onDeactivate ()
     {
-        // Intentionally empty
+        this.model.getSubscriptionManager ().unsubscribe (this.observed);
+    }
+
+
+    /**
+     * Declare objects of the model which are only read while the mode is active. Their observers are
+     * only enabled while at least one active mode or view declared them.
+     *
+     * @param objects The objects
+     */
+    protected void addObserved (final ObserverManagement... objects)
+    {
+        for (final ObserverManagement object: objects)
+        {
+            this.observed.add (object);
+            this.model.getSubscriptionManager ().declare (object);
+        }
     }
 
 
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 
 /**
@@ -18,13 +19,14 @@ import java.util.Map.Entry;
  */
 public class ModeManager
 {
-    private final Map<Integer, Mode>       modes               = new HashMap<> ();
-    private final List<ModeChangeListener> modeChangeListeners = new ArrayList<> ();
+    private final Map<Integer, Mode>           modes               = new HashMap<> ();
+    private final Map<Integer, Supplier<Mode>> modeFactories       = new HashMap<> ();
+    private final List<ModeChangeListener>     modeChangeListeners = new ArrayList<> ();
 
-    private Integer                        activeModeId        = null;
-    private Integer                        previousModeId      = null;
-    private Integer                        temporaryModeId     = null;
-    private Integer                        defaultModeId       = null;
+    private Integer                            activeModeId        = null;
+    private Integer                            previousModeId      = null;
+    private Integer                            temporaryModeId     = null;
+    private Integer                            defaultModeId       = null;
 
 
     /**
@@ -39,6 +41,20 @@ public class ModeManager
     }
 
 
+    /**
+     * Register a mode which is created when it is used for the first time. Use this for rarely
+     * used modes, which do not need to be created on startup. The mode must not create any DAW
+     * objects in its constructor.
+     *
+     * @param modeId The ID of the mode to register
+     * @param modeFactory Creates the mode
+     */
+    public void registerLazyMode (final Integer modeId, final Supplier<Mode> modeFactory)
+    {
+        this.modeFactories.put (modeId, modeFactory);
+    }
+
+
     /**
      * Get the mode with the given ID.
      *
@@ -47,7 +63,16 @@ public class ModeManager
      */
     public Mode getMode (final Integer modeId)
     {
-        return this.modes.get (modeId);
+        final Mode mode = this.modes.get (modeId);
+        if (mode != null)
+            return mode;
+
+        final Supplier<Mode> modeFactory = this.modeFactories.remove (modeId);
+        if (modeFactory == null)
+            return null;
+        final Mode newMode = modeFactory.get ();
+        this.modes.put (modeId, newMode);
+        return newMode;
     }
 
 
@@ -59,6 +84,10 @@ public class ModeManager
      */
     public Integer getMode (final String modeName)
     {
+        // The names are only known after the modes were created
+        for (final Integer modeId: new ArrayList<> (this.modeFactories.keySet ()))
+            this.getMode (modeId);
+
         for (final Entry<Integer, Mode> entry: this.modes.entrySet ())
             if (modeName.equals (entry.getValue ().getName ()))
                 return entry.getKey ();
@@ -143,7 +172,7 @@ public class ModeManager
      */
     public Mode getActiveOrTempMode ()
     {
-        return this.modes.get (this.getActiveOrTempModeId ());
+        return this.getMode (this.getActiveOrTempModeId ());
     }
 
 
@@ -0,0 +1,87 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Counts the active modes and views which observe an object of the model. Objects which are
+ * declared to be observed only on demand are disabled until the first mode or view which reads them
+ * gets active and are disabled again when the last one is deactivated. Objects which are never
+ * declared keep their observers enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SubscriptionManager
+{
+    private final Map<ObserverManagement, Integer> subscribers = new IdentityHashMap<> ();
+
+
+    /**
+     * Declare an object which only needs to be observed while a subscriber is active. Disables the
+     * observers of the object if it has no subscriber yet.
+     *
+     * @param object The object
+     */
+    public void declare (final ObserverManagement object)
+    {
+        if (this.subscribers.containsKey (object))
+            return;
+        this.subscribers.put (object, Integer.valueOf (0));
+        object.enableObservers (false);
+    }
+
+
+    /**
+     * Add a subscriber to objects. Enables the observers of objects which had no subscriber.
+     *
+     * @param objects The objects
+     */
+    public void subscribe (final Iterable<ObserverManagement> objects)
+    {
+        for (final ObserverManagement object: objects)
+        {
+            final int count = this.getCount (object) + 1;
+            this.subscribers.put (object, Integer.valueOf (count));
+            if (count == 1)
+                object.enableObservers (true);
+        }
+    }
+
+
+    /**
+     * Remove a subscriber from objects. Disables the observers of objects which have no subscriber
+     * left.
+     *
+     * @param objects The objects
+     */
+    public void unsubscribe (final Iterable<ObserverManagement> objects)
+    {
+        for (final ObserverManagement object: objects)
+        {
+            final int count = this.getCount (object);
+            if (count == 0)
+                continue;
+            this.subscribers.put (object, Integer.valueOf (count - 1));
+            if (count == 1)
+                object.enableObservers (false);
+        }
+    }
+
+
+    /**
+     * Get the number of subscribers of an object.
+     *
+     * @param object The object
+     * @return The number of subscribers
+     */
+    public int getCount (final ObserverManagement object)
+    {
+        final Integer count = this.subscribers.get (object);
+        return count == null ? 0 : count.intValue ();
+    }
+}
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -24,12 +25,18 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (51);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
+    /** ID for the update interval of fast changing values. */
+    public static final Integer   REALTIME_INTERVAL         = Integer.valueOf (54);
+    /** ID for the update interval of names and colors. */
+    public static final Integer   BULK_INTERVAL             = Integer.valueOf (55);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private int                   realtimeInterval          = 50;
+    private int                   bulkInterval              = 200;
 
 
     /**
@@ -69,6 +76,27 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the settings for the update intervals of the OSC output.
+     *
+     * @param settingsUI The settings
+     * @param category The category for the settings
+     */
+    protected void activateOSCUpdateIntervals (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting realtimeIntervalSetting = settingsUI.getRangeSetting ("Update interval of meters and position", category, 0, 1000, 10, "ms", 50);
+        realtimeIntervalSetting.addValueObserver (value -> {
+            this.realtimeInterval = value.intValue ();
+            this.notifyObservers (REALTIME_INTERVAL);
+        });
+        final IIntegerSetting bulkIntervalSetting = settingsUI.getRangeSetting ("Update interval of names and colors", category, 0, 2000, 10, "ms", 200);
+        bulkIntervalSetting.addValueObserver (value -> {
+            this.bulkInterval = value.intValue ();
+            this.notifyObservers (BULK_INTERVAL);
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -91,4 +119,20 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRealtimeInterval ()
+    {
+        return this.realtimeInterval;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getBulkInterval ()
+    {
+        return this.bulkInterval;
+    }
 }
@@ -11,26 +11,73 @@ import de.mossgrabers.framework.utils.StringUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to an OSC server. The messages are sorted into priority
+ * classes. Each class has its own byte budget per update, fast changing values and names are
+ * additionally limited to a configurable rate. Therefore, the discrete states (e.g. mute and solo)
+ * are never delayed by the fast changing values on slow networks. If a message is not yet sent, it
+ * is replaced by a newer message to the same address.<br/>
+ * Several clients can be connected. Each value is encoded only once and gets a new version number
+ * when it changes. Every client keeps the versions which were sent to it, therefore each client
+ * only receives the values which it has not seen yet. A client which needs to be synchronized again
+ * only needs to forget its versions, the other clients are not affected.<br/>
+ * Besides the configured clients, senders of messages can register themselves with the address on
+ * which they receive messages. Registered clients are identified by this address and removed if
+ * they do not register again within the client timeout.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    /** The minimum delay in milliseconds for sending messages which were held back. */
+    private static final int                       MIN_FLUSH_DELAY        = 10;
+    /** The time in milliseconds after which a registered client is removed. */
+    private static final int                       CLIENT_TIMEOUT         = 60000;
+    /** The maximum number of registered clients. */
+    private static final int                       MAX_REGISTERED_CLIENTS = 16;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    private final List<ClientState>                clients                = new ArrayList<> ();
+    private final Map<String, SharedValue>         values                 = new HashMap<> ();
+    private long                                   version;
+    private boolean                                isFlushScheduled;
+
+
+    /** The priority classes of the messages. */
+    protected enum Priority
+    {
+        /** Fast changing values, e.g. meters and the play position. Sent with a capped rate. */
+        REALTIME (4096),
+        /** Discrete states, e.g. mute, solo and clip states. Sent immediately. */
+        STATE (16384),
+        /** Names, colors and browser contents. Sent with a limited rate. */
+        BULK (4096);
+
+
+        private final int byteBudget;
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+
+        /**
+         * Constructor.
+         *
+         * @param byteBudget The maximum number of bytes to send per update
+         */
+        private Priority (final int byteBudget)
+        {
+            this.byteBudget = byteBudget;
+        }
+    }
 
 
     /**
@@ -38,37 +85,134 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
     }
 
 
     /**
-     * Send all collected messages.
+     * Add a configured client to which all messages are sent. The client receives the whole state
+     * with the next updates.
+     *
+     * @param address The address of the client, formatted as host:port
+     * @param oscClient The OSC client, ignored if null
      */
-    public void flush ()
+    public void addClient (final String address, final IOpenSoundControlClient oscClient)
+    {
+        if (oscClient == null)
+            return;
+        synchronized (this.clients)
+        {
+            this.clients.add (new ClientState (address, oscClient, false));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerClient (final String address, final IOpenSoundControlClient oscClient)
     {
-        synchronized (this.messages)
+        if (address == null || oscClient == null)
+            return;
+
+        synchronized (this.clients)
         {
-            try
+            int numRegistered = 0;
+            for (final ClientState client: this.clients)
+            {
+                if (client.address != null && client.address.equalsIgnoreCase (address))
+                {
+                    // The connection object of a sender may change
+                    if (client.isRegistered)
+                    {
+                        client.oscClient = oscClient;
+                        client.lastRegistration = System.currentTimeMillis ();
+                    }
+                    return;
+                }
+                if (client.isRegistered)
+                    numRegistered++;
+            }
+
+            if (numRegistered >= MAX_REGISTERED_CLIENTS)
             {
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                this.host.println ("Too many registered OSC clients, ignored " + address);
+                return;
             }
-            catch (final IOException ex)
+            this.clients.add (new ClientState (address, oscClient, true));
+        }
+    }
+
+
+    /**
+     * Get the number of connected clients.
+     *
+     * @return The number of clients
+     */
+    public int getNumClients ()
+    {
+        synchronized (this.clients)
+        {
+            return this.clients.size ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resync (final int index)
+    {
+        synchronized (this.clients)
+        {
+            if (index >= 0 && index < this.clients.size ())
+                this.clients.get (index).sentVersions.clear ();
+        }
+    }
+
+
+    /**
+     * Send the collected messages of all priority classes whose interval has passed, limited by
+     * the byte budget of each class. The remaining messages are sent with a later update.
+     */
+    public void flush ()
+    {
+        final long now = System.currentTimeMillis ();
+        final int [] intervals = new int []
+        {
+            this.configuration.getRealtimeInterval (),
+            0,
+            this.configuration.getBulkInterval ()
+        };
+
+        final List<IOpenSoundControlClient> oscClients = new ArrayList<> ();
+        final List<List<IOpenSoundControlMessage>> bundles = new ArrayList<> ();
+        synchronized (this.clients)
+        {
+            this.clients.removeIf (client -> client.isRegistered && now - client.lastRegistration > CLIENT_TIMEOUT);
+
+            boolean hasPending = false;
+            for (final ClientState client: this.clients)
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+                hasPending |= client.collect (now, intervals, messages);
+                oscClients.add (client.oscClient);
+                bundles.add (messages);
             }
 
-            this.messages.clear ();
+            if (hasPending && !this.isFlushScheduled)
+            {
+                this.isFlushScheduled = true;
+                this.host.scheduleTask (this::scheduledFlush, Math.max (MIN_FLUSH_DELAY, Math.min (intervals[0], intervals[2])));
+            }
         }
+
+        for (int i = 0; i < oscClients.size (); i++)
+            this.sendBundle (oscClients.get (i), bundles.get (i));
     }
 
 
@@ -93,8 +237,20 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
-        this.flush ();
+        final SharedValue value = new SharedValue (parameters, this.host.createOSCMessage (address, parameters), ++this.version);
+        this.values.put (address, value);
+
+        final List<IOpenSoundControlClient> oscClients = new ArrayList<> ();
+        synchronized (this.clients)
+        {
+            for (final ClientState client: this.clients)
+            {
+                client.sentVersions.put (address, Long.valueOf (value.version));
+                oscClients.add (client.oscClient);
+            }
+        }
+        for (final IOpenSoundControlClient oscClient: oscClients)
+            this.sendBundle (oscClient, Collections.singletonList (value.message));
     }
 
 
@@ -128,7 +284,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        // Compare the raw text, the conversion is only necessary if the text has changed
+        this.sendOSC (address, address, value, value, dump);
     }
 
 
@@ -140,8 +297,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     /**
      * Tests if the vlaue(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * case, the value gets a new version. The message is queued for all clients which have not
+     * received this version yet or for all clients if dump is true. The message will be sent when
+     * flush gets called.
      *
      * @param cacheAddress The address under which to cache the message
      * @param address The address of the OSC message
@@ -152,20 +310,89 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @SuppressWarnings("unchecked")
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
-        synchronized (this.messages)
+        SharedValue shared = this.values.get (cacheAddress);
+        if (shared == null || !compareValues (shared.testValue, testValue))
+        {
+            final Object converted = value instanceof String ? StringUtils.fixASCII ((String) value) : convertBooleanToInt (value);
+            final IOpenSoundControlMessage message = this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted));
+            shared = new SharedValue (testValue, message, ++this.version);
+            this.values.put (cacheAddress, shared);
+        }
+
+        final Priority priority = this.getPriority (address);
+        synchronized (this.clients)
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            for (final ClientState client: this.clients)
+                client.queue (cacheAddress, address, shared, priority, dump);
         }
     }
 
 
+    /**
+     * Get the priority class of a message. Override to classify the addresses of a protocol.
+     *
+     * @param address The OSC address
+     * @return The priority, STATE by default
+     */
+    protected Priority getPriority (final String address)
+    {
+        return Priority.STATE;
+    }
+
+
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        return this.getNumClients () > 0;
+    }
+
+
+    private void scheduledFlush ()
+    {
+        synchronized (this.clients)
+        {
+            this.isFlushScheduled = false;
+        }
+        this.flush ();
+    }
+
+
+    private void sendBundle (final IOpenSoundControlClient oscClient, final List<IOpenSoundControlMessage> messages)
+    {
+        if (messages.isEmpty ())
+            return;
+
+        try
+        {
+            this.logMessages (messages);
+            oscClient.sendBundle (messages);
+        }
+        catch (final IOException ex)
+        {
+            this.model.getHost ().error ("Could not send UDP message.", ex);
+        }
+    }
+
+
+    /**
+     * Calculates the number of bytes of an OSC message. The address, the type tags and string
+     * values are padded to multiples of 4 bytes, all other values have 4 bytes.
+     *
+     * @param message The message
+     * @return The number of bytes
+     */
+    private static int getSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        int size = pad (message.getAddress ().length () + 1) + pad (values.length + 2);
+        for (final Object value: values)
+            size += value instanceof String ? pad (((String) value).length () + 1) : 4;
+        return size;
+    }
+
+
+    private static int pad (final int length)
+    {
+        return (length + 3) & ~3;
     }
 
 
@@ -264,4 +491,118 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /** A value with its encoded message, which is shared by all clients. */
+    private static class SharedValue
+    {
+        private final Object                   testValue;
+        private final IOpenSoundControlMessage message;
+        private final long                     version;
+
+
+        /**
+         * Constructor.
+         *
+         * @param testValue The value(s) to use for testing
+         * @param message The message
+         * @param version The version of the value
+         */
+        SharedValue (final Object testValue, final IOpenSoundControlMessage message, final long version)
+        {
+            this.testValue = testValue;
+            this.message = message;
+            this.version = version;
+        }
+    }
+
+
+    /** The versions which were sent to a client and its queued messages. */
+    private static class ClientState
+    {
+        private final String                                               address;
+        private final boolean                                              isRegistered;
+        private IOpenSoundControlClient                                    oscClient;
+        private long                                                       lastRegistration;
+        private final Map<String, Long>                                    sentVersions  = new HashMap<> ();
+        private final Map<Priority, Map<String, IOpenSoundControlMessage>> queues        = new EnumMap<> (Priority.class);
+        private final long []                                              lastSendTimes = new long [Priority.values ().length];
+
+
+        /**
+         * Constructor.
+         *
+         * @param address The address of the client, formatted as host:port
+         * @param oscClient The OSC client
+         * @param isRegistered True if the client registered itself, false if it is configured
+         */
+        ClientState (final String address, final IOpenSoundControlClient oscClient, final boolean isRegistered)
+        {
+            this.address = address;
+            this.oscClient = oscClient;
+            this.isRegistered = isRegistered;
+            this.lastRegistration = System.currentTimeMillis ();
+
+            for (final Priority priority: Priority.values ())
+                this.queues.put (priority, new LinkedHashMap<> ());
+        }
+
+
+        /**
+         * Queue the message of a value if the client has not received its version yet.
+         *
+         * @param cacheAddress The address under which the value is cached
+         * @param address The address of the OSC message
+         * @param value The value
+         * @param priority The priority class of the message
+         * @param dump True to queue it even if the version was already sent
+         */
+        void queue (final String cacheAddress, final String address, final SharedValue value, final Priority priority, final boolean dump)
+        {
+            final Long sentVersion = this.sentVersions.get (cacheAddress);
+            if (!dump && sentVersion != null && sentVersion.longValue () == value.version)
+                return;
+            this.sentVersions.put (cacheAddress, Long.valueOf (value.version));
+            this.queues.get (priority).put (address, value.message);
+        }
+
+
+        /**
+         * Collect the messages of all priority classes whose interval has passed, limited by the
+         * byte budget of each class.
+         *
+         * @param now The current time in milliseconds
+         * @param intervals The intervals of the priority classes
+         * @param messages Where to add the messages to send
+         * @return True if there are messages left in the queues
+         */
+        boolean collect (final long now, final int [] intervals, final List<IOpenSoundControlMessage> messages)
+        {
+            boolean hasPending = false;
+            for (final Priority priority: Priority.values ())
+            {
+                final Map<String, IOpenSoundControlMessage> queue = this.queues.get (priority);
+                if (queue.isEmpty ())
+                    continue;
+                if (now - this.lastSendTimes[priority.ordinal ()] < intervals[priority.ordinal ()])
+                {
+                    hasPending = true;
+                    continue;
+                }
+                this.lastSendTimes[priority.ordinal ()] = now;
+
+                int size = 0;
+                final Iterator<IOpenSoundControlMessage> iterator = queue.values ().iterator ();
+                while (iterator.hasNext () && size < priority.byteBudget)
+                {
+                    final IOpenSoundControlMessage message = iterator.next ();
+                    size += getSize (message);
+                    messages.add (message);
+                    iterator.remove ();
+                }
+                hasPending |= !queue.isEmpty ();
+            }
+            return hasPending;
+        }
+    }
 }
@@ -33,4 +33,21 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the minimum interval between two updates of fast changing values like meters and the
+     * play position.
+     *
+     * @return The interval in milliseconds
+     */
+    int getRealtimeInterval ();
+
+
+    /**
+     * Get the minimum interval between two updates of names, colors and browser contents.
+     *
+     * @return The interval in milliseconds
+     */
+    int getBulkInterval ();
 }
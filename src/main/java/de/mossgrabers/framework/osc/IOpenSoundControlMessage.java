@@ -25,4 +25,12 @@ public interface IOpenSoundControlMessage
      * @return The values array
      */
     Object [] getValues ();
+
+
+    /**
+     * Get a connection for replying to the sender of the message.
+     *
+     * @return The connection, null if the sender is unknown, e.g. if the message was replayed
+     */
+    IOpenSoundControlClient getSender ();
 }
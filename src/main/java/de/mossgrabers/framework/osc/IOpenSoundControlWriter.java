@@ -19,6 +19,26 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Send the whole state again to one client with the next updates. The other clients only
+     * receive the changes.
+     *
+     * @param index The index of the client
+     */
+    void resync (int index);
+
+
+    /**
+     * Register the sender of a message as a client which receives all messages. A client which is
+     * already configured is ignored. A registered client must register again regularly, otherwise
+     * it is removed.
+     *
+     * @param address The address on which the client receives messages, formatted as host:port
+     * @param oscClient A connection to the client
+     */
+    void registerClient (String address, IOpenSoundControlClient oscClient);
+
+
     /**
      * Sends the message and calls flush.
      *
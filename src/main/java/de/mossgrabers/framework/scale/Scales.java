@@ -9,6 +9,7 @@ import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 
 
@@ -25,6 +26,12 @@ public class Scales
     private static final int            DRUM_NOTE_UPPER          = 100;
     private static final int            DRUM_DEFAULT_OFFSET      = 16;
 
+    private static final int            MATRIX_NOTE              = 0;
+    private static final int            MATRIX_SEQUENCER         = 1;
+    private static final int            MATRIX_PIANO             = 2;
+    private static final int            MATRIX_DRUM              = 3;
+    private static final int            MAX_CACHED_MATRICES      = 256;
+
     /** The names of notes. */
     private static final String []      NOTE_NAMES               =
     {
@@ -147,6 +154,12 @@ public class Scales
     private int                         drumNoteEnd              = DRUM_NOTE_END;
 
     private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
+    private final Map<Long, int []>     cachedMatrices           = new HashMap<> ();
+    private final long []               lastMatrixKeys           = new long [4];
+    private final int [] []             lastMatrices             = new int [4] [];
+    private int []                      colorNoteMap;
+    private int                         colorState               = -1;
+    private String []                   colorMap;
     private IValueChanger               valueChanger;
 
 
@@ -669,7 +682,8 @@ public class Scales
 
 
     /**
-     * Get the color index for the given note respecting the note map.
+     * Get the color index for the given note respecting the note map. The colors of all notes of
+     * the note map are calculated at once and kept until the note map or the scale settings change.
      *
      * @param noteMap The note map
      * @param note A note
@@ -677,7 +691,22 @@ public class Scales
      */
     public String getColor (final int [] noteMap, final int note)
     {
-        final int midiNote = noteMap[note];
+        final int state = this.getScaleState ();
+        if (noteMap != this.colorNoteMap || state != this.colorState)
+        {
+            final String [] colors = new String [noteMap.length];
+            for (int i = 0; i < noteMap.length; i++)
+                colors[i] = this.calcColor (noteMap[i]);
+            this.colorMap = colors;
+            this.colorNoteMap = noteMap;
+            this.colorState = state;
+        }
+        return this.colorMap[note];
+    }
+
+
+    private String calcColor (final int midiNote)
+    {
         if (midiNote == -1)
             return Scales.SCALE_COLOR_OFF;
         // Add 12 to prevent negative values
@@ -708,11 +737,19 @@ public class Scales
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The matrix is shared and must not be modified.
      *
      * @return The matrix
      */
     public int [] getNoteMatrix ()
+    {
+        final long key = (long) this.getScaleState () << 8 | this.octave & 0xFF;
+        final int [] cached = this.getCachedMatrix (MATRIX_NOTE, key);
+        return cached == null ? this.putCachedMatrix (MATRIX_NOTE, key, this.createNoteMatrix ()) : cached;
+    }
+
+
+    private int [] createNoteMatrix ()
     {
         final int [] matrix = this.getActiveMatrix ();
         final int [] noteMap = Scales.getEmptyMatrix ();
@@ -726,13 +763,21 @@ public class Scales
 
 
     /**
-     * Get the active sequencer matrix.
+     * Get the active sequencer matrix. The matrix is shared and must not be modified.
      *
      * @param length The expected length
      * @param offset An offset to add to the notes
      * @return The matrix
      */
     public int [] getSequencerMatrix (final int length, final int offset)
+    {
+        final long key = (long) this.getScaleState () << 32 | (long) (length & 0xFFFF) << 16 | offset & 0xFFFF;
+        final int [] cached = this.getCachedMatrix (MATRIX_SEQUENCER, key);
+        return cached == null ? this.putCachedMatrix (MATRIX_SEQUENCER, key, this.createSequencerMatrix (length, offset)) : cached;
+    }
+
+
+    private int [] createSequencerMatrix (final int length, final int offset)
     {
         final int [] matrix = this.getActiveMatrix ();
         final int [] noteMap = new int [length];
@@ -747,11 +792,19 @@ public class Scales
 
 
     /**
-     * Get the piano matrix.
+     * Get the piano matrix. The matrix is shared and must not be modified.
      *
      * @return The matrix
      */
     public int [] getPianoMatrix ()
+    {
+        final long key = this.pianoOctave & 0xFF;
+        final int [] cached = this.getCachedMatrix (MATRIX_PIANO, key);
+        return cached == null ? this.putCachedMatrix (MATRIX_PIANO, key, this.createPianoMatrix ()) : cached;
+    }
+
+
+    private int [] createPianoMatrix ()
     {
         final int [] matrix = PIANO_MATRIX;
         final int [] noteMap = Scales.getEmptyMatrix ();
@@ -793,11 +846,19 @@ public class Scales
 
 
     /**
-     * Get the drum matrix.
+     * Get the drum matrix. The matrix is shared and must not be modified.
      *
      * @return The drum matrix
      */
     public int [] getDrumMatrix ()
+    {
+        final long key = this.drumOffset & 0xFF;
+        final int [] cached = this.getCachedMatrix (MATRIX_DRUM, key);
+        return cached == null ? this.putCachedMatrix (MATRIX_DRUM, key, this.createDrumMatrix ()) : cached;
+    }
+
+
+    private int [] createDrumMatrix ()
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
@@ -818,6 +879,7 @@ public class Scales
     public void setDrumMatrix (final int [] matrix)
     {
         this.drumMatrix = matrix;
+        this.clearCachedMatrices ();
     }
 
 
@@ -829,6 +891,7 @@ public class Scales
     public void setDrumNoteStart (final int drumNoteStart)
     {
         this.drumNoteStart = drumNoteStart;
+        this.clearCachedMatrices ();
     }
 
 
@@ -840,6 +903,7 @@ public class Scales
     public void setDrumNoteEnd (final int drumNoteEnd)
     {
         this.drumNoteEnd = drumNoteEnd;
+        this.clearCachedMatrices ();
     }
 
 
@@ -964,6 +1028,64 @@ public class Scales
         this.scaleGrids.clear ();
         for (final Scale scale: Scale.values ())
             this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
+        this.clearCachedMatrices ();
+    }
+
+
+    /**
+     * Get the settings which influence the scale matrices and the note colors as one value.
+     *
+     * @return The scale, the scale offset and the chromatic setting
+     */
+    private int getScaleState ()
+    {
+        return this.selectedScale.ordinal () << 5 | this.scaleOffset << 1 | (this.chromaticOn ? 1 : 0);
+    }
+
+
+    /**
+     * Get a matrix which was previously created for the same settings. The most recently used
+     * matrix of each type is checked first, which avoids the lookup as long as the settings do not
+     * change.
+     *
+     * @param type The type of the matrix
+     * @param key The settings from which the matrix is created
+     * @return The matrix or null if not cached
+     */
+    private int [] getCachedMatrix (final int type, final long key)
+    {
+        final int [] last = this.lastMatrices[type];
+        if (last != null && this.lastMatrixKeys[type] == key)
+            return last;
+        final int [] matrix = this.cachedMatrices.get (Long.valueOf ((long) type << 56 | key));
+        if (matrix != null)
+        {
+            this.lastMatrixKeys[type] = key;
+            this.lastMatrices[type] = matrix;
+        }
+        return matrix;
+    }
+
+
+    private int [] putCachedMatrix (final int type, final long key, final int [] matrix)
+    {
+        if (this.cachedMatrices.size () >= MAX_CACHED_MATRICES)
+            this.cachedMatrices.clear ();
+        this.cachedMatrices.put (Long.valueOf ((long) type << 56 | key), matrix);
+        this.lastMatrixKeys[type] = key;
+        this.lastMatrices[type] = matrix;
+        return matrix;
+    }
+
+
+    /**
+     * Remove all cached matrices, required if the grid or the drum layout changes.
+     */
+    private void clearCachedMatrices ()
+    {
+        this.cachedMatrices.clear ();
+        Arrays.fill (this.lastMatrices, null);
+        this.colorNoteMap = null;
     }
 
 
@@ -986,6 +1108,7 @@ public class Scales
     public void setStartNote (final int startNote)
     {
         this.startNote = startNote;
+        this.clearCachedMatrices ();
     }
 
 
@@ -1008,5 +1131,6 @@ public class Scales
     public void setEndNote (final int endNote)
     {
         this.endNote = endNote;
+        this.clearCachedMatrices ();
     }
 }
\ No newline at end of file
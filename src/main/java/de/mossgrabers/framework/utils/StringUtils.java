@@ -14,7 +14,7 @@ import java.nio.ByteBuffer;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final char []   REMOVABLE_CHARS =
     {
         ' ',
         'e',
@@ -24,6 +24,12 @@ public class StringUtils
         'o'
     };
 
+    private static final char []   HEX_DIGITS      = "0123456789ABCDEF".toCharArray ();
+
+    private static final TextCache ASCII_TEXTS     = new TextCache (1024);
+    private static final TextCache OPTIMIZED_TEXTS = new TextCache (1024);
+    private static final TextCache PADDED_TEXTS    = new TextCache (1024);
+
 
     /**
      * Construcotr, private due to help class.
@@ -45,17 +51,21 @@ public class StringUtils
     public static String pad (final String str, final int length, final char character)
     {
         final String text = str == null ? "" : str;
+        if (text.length () == length)
+            return text;
+        return PADDED_TEXTS.get (text, length << 16 | character, (t, parameter) -> padText (t, parameter >> 16, (char) (parameter & 0xFFFF)));
+    }
+
+
+    private static String padText (final String text, final int length, final char character)
+    {
         final int diff = length - text.length ();
         if (diff < 0)
             return text.substring (0, length);
-        if (diff > 0)
-        {
-            final StringBuilder sb = new StringBuilder (text.length () + diff).append (text);
-            for (int i = 0; i < diff; i++)
-                sb.append (character);
-            return sb.toString ();
-        }
-        return text;
+        final StringBuilder sb = new StringBuilder (length).append (text);
+        for (int i = 0; i < diff; i++)
+            sb.append (character);
+        return sb.toString ();
     }
 
 
@@ -82,6 +92,17 @@ public class StringUtils
     {
         if (name == null)
             return null;
+        for (int i = 0; i < name.length (); i++)
+        {
+            if (name.charAt (i) > 127)
+                return ASCII_TEXTS.get (name, 0, (text, parameter) -> replaceNonASCII (text));
+        }
+        return name;
+    }
+
+
+    private static String replaceNonASCII (final String name)
+    {
         final StringBuilder str = new StringBuilder ();
         for (int i = 0; i < name.length (); i++)
         {
@@ -142,7 +163,14 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        return OPTIMIZED_TEXTS.get (text, length, StringUtils::shortenText);
+    }
 
+
+    private static String shortenText (final String text, final int length)
+    {
         String shortened = text;
         for (final char element: REMOVABLE_CHARS)
         {
@@ -206,6 +234,26 @@ public class StringUtils
     }
 
 
+    /**
+     * Append characters as hex values to a string builder. Each character is converted to one
+     * byte.
+     *
+     * @param sysex The string builder to append to
+     * @param data The characters to convert
+     * @param length The number of characters to convert
+     * @return The string builder
+     */
+    public static StringBuilder appendHex (final StringBuilder sysex, final char [] data, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final int value = data[i] & 0xFF;
+            sysex.append (HEX_DIGITS[value >> 4]).append (HEX_DIGITS[value & 0xF]).append (' ');
+        }
+        return sysex;
+    }
+
+
     /**
      * Convert the byte to a hex string
      *
@@ -0,0 +1,132 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A bounded cache for formatted texts, e.g. shortened or padded names. The names of the DAW rarely
+ * change but are formatted again on each update of a display. The least recently used texts are
+ * removed if the cache is full. The cache is thread safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextCache
+{
+    private final Map<Key, String> cache;
+
+
+    /**
+     * Formats a text.
+     */
+    @FunctionalInterface
+    public interface Formatter
+    {
+        /**
+         * Format a text.
+         *
+         * @param text The text to format
+         * @param parameter The parameter for the formatting, e.g. the length
+         * @return The formatted text
+         */
+        String format (String text, int parameter);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of texts to keep
+     */
+    public TextCache (final int capacity)
+    {
+        this.cache = new LinkedHashMap<Key, String> (capacity, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Key, String> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get the formatted text from the cache. If it is not cached yet, it is formatted and added.
+     *
+     * @param text The text to format
+     * @param parameter The parameter for the formatting, e.g. the length
+     * @param formatter Formats the text if it is not cached
+     * @return The formatted text
+     */
+    public String get (final String text, final int parameter, final Formatter formatter)
+    {
+        final Key key = new Key (text, parameter);
+        synchronized (this.cache)
+        {
+            final String formatted = this.cache.get (key);
+            if (formatted != null)
+                return formatted;
+        }
+
+        final String formatted = formatter.format (text, parameter);
+        synchronized (this.cache)
+        {
+            this.cache.put (key, formatted);
+        }
+        return formatted;
+    }
+
+
+    /** The key of a cache entry. */
+    private static class Key
+    {
+        private final String text;
+        private final int    parameter;
+        private final int    hash;
+
+
+        /**
+         * Constructor.
+         *
+         * @param text The text
+         * @param parameter The formatting parameter
+         */
+        Key (final String text, final int parameter)
+        {
+            this.text = text;
+            this.parameter = parameter;
+            this.hash = 31 * text.hashCode () + parameter;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            final Key other = (Key) obj;
+            // Texts of the DAW are often the same instance, check the identity first
+            return this.parameter == other.parameter && (this.text == other.text || this.text.equals (other.text));
+        }
+    }
+}
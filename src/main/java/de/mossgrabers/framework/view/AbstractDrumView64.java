@@ -73,6 +73,10 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
 
         this.drumOctave = 0;
 
+        final ICursorDevice drumDevice64 = model.getDrumDevice64 ();
+        if (drumDevice64 != null)
+            this.addObserved (drumDevice64.getDrumPadBank ());
+
         final ITrackBank tb = model.getTrackBank ();
         // Light notes send from the sequencer
         for (int i = 0; i < tb.getPageSize (); i++)
@@ -7,7 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.IClipOccupancy;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ISlotBank;
@@ -15,8 +15,12 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ObserverManagement;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -48,6 +52,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     protected int              columns;
     protected boolean          useClipColor;
 
+    private boolean            isOccupancySubscribed;
+
 
     /**
      * Constructor.
@@ -70,6 +76,15 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        this.subscribeOccupancy (false);
+        super.onDeactivate ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onScene (final int sceneIndex, final ButtonEvent event)
@@ -171,7 +186,10 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     @Override
     public void drawGrid ()
     {
-        if (this.surface.isShiftPressed ())
+        final boolean isBirdsEye = this.surface.isShiftPressed ();
+        // The clip occupancy index is only read by the birds eye grid
+        this.subscribeOccupancy (isBirdsEye);
+        if (isBirdsEye)
             this.drawBirdsEyeGrid ();
         else
             this.drawSessionGrid ();
@@ -196,7 +214,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
 
     /**
-     * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix.
+     * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix. If
+     * the model provides a clip occupancy index, the pads show the actual content of the pages.
      */
     protected void drawBirdsEyeGrid ()
     {
@@ -224,6 +243,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         selX -= offsetX;
         selY -= offsetY;
 
+        final IClipOccupancy occupancy = tb == this.model.getTrackBank () ? this.model.getClipOccupancy () : null;
         for (int x = 0; x < this.columns; x++)
         {
             final SessionColor rowColor = x < maxX ? this.clipColorHasContent : this.clipColorHasNoContent;
@@ -232,12 +252,64 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
                 SessionColor color = y < maxY ? rowColor : this.clipColorHasNoContent;
                 if (selX == x && selY == y)
                     color = this.clipColorIsPlaying;
+                else if (occupancy != null && color == this.clipColorHasContent)
+                {
+                    final int trackPage = flipSession ? offsetY + y : offsetX + x;
+                    final int scenePage = flipSession ? offsetX + x : offsetY + y;
+                    color = this.getBirdsEyeColor (occupancy, trackPage * numTracks, scenePage * numScenes, numTracks, numScenes);
+                }
                 this.surface.getPadGrid ().lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
             }
         }
     }
 
 
+    /**
+     * Get the color for a pad of the birds eye view from the clip occupancy index.
+     *
+     * @param occupancy The clip occupancy index
+     * @param track The position of the first track of the page
+     * @param scene The position of the first scene of the page
+     * @param numTracks The number of tracks of a page
+     * @param numScenes The number of scenes of a page
+     * @return The color
+     */
+    protected SessionColor getBirdsEyeColor (final IClipOccupancy occupancy, final int track, final int scene, final int numTracks, final int numScenes)
+    {
+        // Pages outside of the index are shown as before
+        if (track >= occupancy.getNumTracks () || scene >= occupancy.getNumScenes ())
+            return this.clipColorHasContent;
+
+        final int toTrack = track + numTracks;
+        final int toScene = scene + numScenes;
+        if (occupancy.isRecording (track, toTrack, scene, toScene))
+            return this.clipColorIsRecording;
+        if (occupancy.isPlaying (track, toTrack, scene, toScene))
+            return this.clipColorIsPlayingQueued;
+        return occupancy.countClips (track, toTrack, scene, toScene) > 0 ? this.clipColorHasContent : this.clipColorHasNoContent;
+    }
+
+
+    /**
+     * Enable or disable the observers of the clip occupancy index for this view.
+     *
+     * @param enable True to subscribe, false to unsubscribe
+     */
+    private void subscribeOccupancy (final boolean enable)
+    {
+        final IClipOccupancy occupancy = this.model.getClipOccupancy ();
+        if (occupancy == null || this.isOccupancySubscribed == enable)
+            return;
+        this.isOccupancySubscribed = enable;
+
+        final List<ObserverManagement> objects = Collections.singletonList (occupancy);
+        if (enable)
+            this.model.getSubscriptionManager ().subscribe (objects);
+        else
+            this.model.getSubscriptionManager ().unsubscribe (objects);
+    }
+
+
     protected void setColors (final SessionColor isRecording, final SessionColor isRecordingQueued, final SessionColor isPlaying, final SessionColor isPlayingQueued, final SessionColor hasContent, final SessionColor noContent, final SessionColor recArmed)
     {
         this.clipColorIsRecording = isRecording;
@@ -279,7 +351,6 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
         final double [] slotColor = slot.getColor ();
-        final String colorIndex = DAWColors.getColorIndex (slotColor[0], slotColor[1], slotColor[2]);
         final ColorManager cm = this.model.getColorManager ();
 
         if (slot.isRecordingQueued ())
@@ -287,8 +358,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
         if (slot.isRecording ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slotColor), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
             return this.clipColorIsRecording;
         }
 
@@ -297,15 +368,15 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
         if (slot.isPlaying ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slotColor), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
             return this.clipColorIsPlaying;
         }
 
         if (slot.hasContent ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slotColor), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
             return this.clipColorHasContent;
         }
 
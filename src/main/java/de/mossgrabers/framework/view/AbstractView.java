@@ -9,16 +9,21 @@ import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.FlushProfiler;
+import de.mossgrabers.framework.controller.FlushProfiler.Phase;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.observer.ObserverManagement;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -53,6 +58,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected boolean                             canScrollUp;
     protected boolean                             canScrollDown;
 
+    private final List<ObserverManagement>        observed           = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -88,6 +95,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void onActivate ()
     {
+        this.model.getSubscriptionManager ().subscribe (this.observed);
         this.updateNoteMapping ();
     }
 
@@ -96,7 +104,23 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void onDeactivate ()
     {
-        // Intentionally empty
+        this.model.getSubscriptionManager ().unsubscribe (this.observed);
+    }
+
+
+    /**
+     * Declare objects of the model which are only read while the view is active. Their observers are
+     * only enabled while at least one active mode or view declared them.
+     *
+     * @param objects The objects
+     */
+    protected void addObserved (final ObserverManagement... objects)
+    {
+        for (final ObserverManagement object: objects)
+        {
+            this.observed.add (object);
+            this.model.getSubscriptionManager ().declare (object);
+        }
     }
 
 
@@ -115,7 +139,10 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
         final Mode m = this.surface.getModeManager ().getActiveOrTempMode ();
         if (m != null)
         {
+            final FlushProfiler profiler = this.surface.getFlushProfiler ();
+            final long start = profiler.start ();
             m.updateDisplay ();
+            profiler.stop (Phase.UPDATE_DISPLAY, start);
             m.updateFirstRow ();
             m.updateSecondRow ();
         }